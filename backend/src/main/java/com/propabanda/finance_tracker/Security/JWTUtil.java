@@ -1,28 +1,84 @@
 package com.propabanda.finance_tracker.Security;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import com.propabanda.finance_tracker.model.User;
+import com.propabanda.finance_tracker.service.UserDetailServiceImpl;
+import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.nio.charset.StandardCharsets;
 import java.security.Key;
+import java.time.Instant;
+import java.time.Duration;
 import java.util.Date;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
 
 @Component
 public class JWTUtil {
 
-    @Value("${jwt.secret}")
-    private String jwtSecret;
+    public record VerifiedToken(String document, Long userId, String name, Instant expiresAt, UserDetails userDetails) {
+    }
 
-    @Value("${jwt.expiration-ms}")
-    private long jwtExpirationMs;
+    // A verified token stays cached, together with its user, until it expires, so a cached entry never
+    // outlives the token itself.
+    private static final Expiry<String, VerifiedToken> UNTIL_EXPIRATION = new Expiry<>() {
+        @Override
+        public long expireAfterCreate(String token, VerifiedToken verified, long currentTime) {
+            return TimeUnit.MILLISECONDS.toNanos(Math.max(0, verified.expiresAt().toEpochMilli() - System.currentTimeMillis()));
+        }
 
-    private Key getSigningKey() {
-        return Keys.hmacShaKeyFor(jwtSecret.getBytes(StandardCharsets.UTF_8));
+        @Override
+        public long expireAfterUpdate(String token, VerifiedToken verified, long currentTime, long currentDuration) {
+            return expireAfterCreate(token, verified, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String token, VerifiedToken verified, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    };
+
+    private final UserDetailServiceImpl userDetailService;
+    private final long jwtExpirationMs;
+    private final Key signingKey;
+    private final JwtParser parser;
+    private final Cache<String, VerifiedToken> verifiedTokens;
+    // Ids of deleted users, kept as long as a token issued before the delete can still be valid.
+    private final Cache<Long, Boolean> revokedUsers;
+
+    public JWTUtil(UserDetailServiceImpl userDetailService,
+                   @Value("${jwt.secret}") String jwtSecret,
+                   @Value("${jwt.expiration-ms}") long jwtExpirationMs,
+                   @Value("${jwt.cache.max-size:1000}") long cacheMaxSize,
+                   MeterRegistry meterRegistry) {
+        this.userDetailService = userDetailService;
+        this.jwtExpirationMs = jwtExpirationMs;
+        this.signingKey = Keys.hmacShaKeyFor(jwtSecret.getBytes(StandardCharsets.UTF_8));
+        this.parser = Jwts.parserBuilder().setSigningKey(signingKey).build();
+        this.verifiedTokens = Caffeine.newBuilder()
+                .maximumSize(cacheMaxSize)
+                .expireAfter(UNTIL_EXPIRATION)
+                .recordStats()
+                .build();
+        this.revokedUsers = Caffeine.newBuilder()
+                .expireAfterWrite(Duration.ofMillis(jwtExpirationMs))
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, verifiedTokens, "jwt");
     }
 
     public String generateToken(User user) {
@@ -32,58 +88,92 @@ public class JWTUtil {
                 .claim("userId", user.getId())
                 .setIssuedAt(new Date())
                 .setExpiration(new Date(System.currentTimeMillis() + jwtExpirationMs))
-                .signWith(getSigningKey(), SignatureAlgorithm.HS256)
+                .signWith(signingKey, SignatureAlgorithm.HS256)
                 .compact();
 
-        System.out.println("Generated token: " + token);
         return token;
     }
 
-    public String getDocumentFromToken(String token) {
-        return Jwts.parserBuilder()
-                .setSigningKey(getSigningKey())
-                .build()
-                .parseClaimsJws(token)
-                .getBody()
-                .getSubject();
-    }
+    // Checks signature and expiration once and returns the claims and the user they name; empty when
+    // the token is not valid or its user no longer exists.
+    public Optional<VerifiedToken> verify(String token) {
+        VerifiedToken cached = verifiedTokens.getIfPresent(token);
+        if (cached != null && cached.expiresAt().isAfter(Instant.now())) {
+            return isRevoked(cached) ? Optional.empty() : Optional.of(cached);
+        }
 
-    public Long getUserIdFromToken(String token) {
+        Claims claims;
+        UserDetails userDetails;
         try {
-            Object userIdClaim = Jwts.parserBuilder()
-                    .setSigningKey(getSigningKey())
-                    .build()
-                    .parseClaimsJws(token)
-                    .getBody()
-                    .get("userId");
+            claims = parser.parseClaimsJws(token).getBody();
+            userDetails = userDetailService.loadUserByUsername(claims.getSubject());
+        } catch (JwtException | IllegalArgumentException | UsernameNotFoundException e) {
+            return Optional.empty();
+        }
 
-            System.out.println("UserID claim from token: " + userIdClaim);
-            System.out.println("UserID claim type: " + (userIdClaim != null ? userIdClaim.getClass() : "null"));
+        VerifiedToken verified = new VerifiedToken(
+                claims.getSubject(), userId(claims.get("userId")), claims.get("name", String.class),
+                claims.getExpiration() != null ? claims.getExpiration().toInstant() : null, userDetails);
+        if (isRevoked(verified)) {
+            return Optional.empty();
+        }
+        // Tokens without an expiration are still accepted, just never cached.
+        if (verified.expiresAt() != null) {
+            verifiedTokens.put(token, verified);
+        }
+        return Optional.of(verified);
+    }
 
-            if (userIdClaim == null) {
-                return null;
-            }
+    // Cached tokens skip the user lookup, so deleting a user must drop them explicitly. A verify()
+    // that loaded the user before the delete can still put its entry afterwards, so the id is also
+    // marked revoked and checked on every hit. Inside a transaction the mark waits for the commit,
+    // so a rolled-back delete does not lock the user out.
+    public void evictUser(Long userId) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    revoke(userId);
+                }
+            });
+        } else {
+            revoke(userId);
+        }
+    }
 
-            // Handle both String and Number types
-            if (userIdClaim instanceof Number) {
-                return ((Number) userIdClaim).longValue();
-            } else if (userIdClaim instanceof String) {
-                return Long.parseLong((String) userIdClaim);
-            }
+    private void revoke(Long userId) {
+        revokedUsers.put(userId, Boolean.TRUE);
+        verifiedTokens.asMap().values().removeIf(verified -> userId.equals(verified.userId()));
+    }
 
-            return null;
-        } catch (Exception e) {
-            System.out.println("Error extracting userId from token: " + e.getMessage());
-            return null;
-        }
+    private boolean isRevoked(VerifiedToken verified) {
+        return verified.userId() != null && revokedUsers.getIfPresent(verified.userId()) != null;
+    }
+
+    public String getDocumentFromToken(String token) {
+        return verify(token).map(VerifiedToken::document).orElseThrow(() -> new JwtException("Invalid token"));
+    }
+
+    public Long getUserIdFromToken(String token) {
+        return verify(token).map(VerifiedToken::userId).orElse(null);
     }
 
     public boolean isTokenValid(String token) {
-        try {
-            getDocumentFromToken(token);
-            return true;
-        } catch (JwtException e) {
-            return false;
+        return verify(token).isPresent();
+    }
+
+    // Handle both String and Number types
+    private static Long userId(Object userIdClaim) {
+        if (userIdClaim instanceof Number number) {
+            return number.longValue();
+        }
+        if (userIdClaim instanceof String text) {
+            try {
+                return Long.parseLong(text);
+            } catch (NumberFormatException e) {
+                return null;
+            }
         }
+        return null;
     }
-}
\ No newline at end of file
+}
@@ -1,6 +1,5 @@
 package com.propabanda.finance_tracker.Security;
 
-import com.propabanda.finance_tracker.service.UserDetailServiceImpl;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import jakarta.servlet.*;
@@ -17,7 +16,6 @@ import java.util.List;
 public class JwtFilter extends GenericFilter {
 
     private final JWTUtil jwtUtil;
-    private final UserDetailServiceImpl userDetailService;
     private static final Logger logger = LoggerFactory.getLogger(JwtFilter.class);
 
     // Paths that should bypass JWT authentication
@@ -27,9 +25,8 @@ public class JwtFilter extends GenericFilter {
             "/actuator/health",
             "/error");
 
-    public JwtFilter(JWTUtil jwtUtil, UserDetailServiceImpl userDetailService) {
+    public JwtFilter(JWTUtil jwtUtil) {
         this.jwtUtil = jwtUtil;
-        this.userDetailService = userDetailService;
     }
 
     @Override
@@ -56,9 +53,10 @@ public class JwtFilter extends GenericFilter {
             logger.info("Found Bearer Token for path: {}", path);
 
             try {
-                if (jwtUtil.isTokenValid(token)) {
-                    String document = jwtUtil.getDocumentFromToken(token);
-                    var userDetails = userDetailService.loadUserByUsername(document);
+                var verified = jwtUtil.verify(token);
+                if (verified.isPresent()) {
+                    String document = verified.get().document();
+                    var userDetails = verified.get().userDetails();
 
                     var auth = new UsernamePasswordAuthenticationToken(
                             userDetails, null, userDetails.getAuthorities());
@@ -3,6 +3,7 @@ package com.propabanda.finance_tracker.controller;
 import com.propabanda.finance_tracker.dto.ClientFilterDTO;
 import com.propabanda.finance_tracker.dto.request.ClientRequestDTO;
 import com.propabanda.finance_tracker.dto.response.ClientResponseDTO;
+import com.propabanda.finance_tracker.dto.response.CursorPageResponseDTO;
 import com.propabanda.finance_tracker.service.ClientService;
 import jakarta.validation.Valid;
 import org.springframework.http.ResponseEntity;
@@ -25,6 +26,14 @@ public class ClientController {
         return ResponseEntity.ok(clientService.findAll());
     }
 
+    @GetMapping(params = "cursor")
+    public ResponseEntity<CursorPageResponseDTO<ClientResponseDTO>> scrollClients(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size
+    ) {
+        return ResponseEntity.ok(clientService.scrollFiltered(new ClientFilterDTO(), cursor, size));
+    }
+
     @GetMapping("/{id}")
     public ResponseEntity<ClientResponseDTO> findClientById(@PathVariable Long id) {
         return clientService.findById(id)
@@ -67,4 +76,13 @@ public class ClientController {
         List<ClientResponseDTO> filtered = clientService.findAllFiltered(clientFilterDTO);
         return ResponseEntity.ok(filtered);
     }
+
+    @PostMapping(value = "/filter", params = "cursor")
+    public ResponseEntity<CursorPageResponseDTO<ClientResponseDTO>> scrollFilteredClients(
+            @RequestBody ClientFilterDTO clientFilterDTO,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size
+    ) {
+        return ResponseEntity.ok(clientService.scrollFiltered(clientFilterDTO, cursor, size));
+    }
 }
@@ -3,12 +3,17 @@ package com.propabanda.finance_tracker.controller;
 import com.propabanda.finance_tracker.dto.DashboardEvolutionDTO;
 import com.propabanda.finance_tracker.dto.DashboardFilterDTO;
 import com.propabanda.finance_tracker.dto.DashboardPerformanceDTO;
+import com.propabanda.finance_tracker.dto.response.CursorPageResponseDTO;
+import com.propabanda.finance_tracker.dto.response.OrderResponseDTO;
+import com.propabanda.finance_tracker.dto.response.PageResponseDTO;
+import com.propabanda.finance_tracker.service.DailyRevenueService;
 import com.propabanda.finance_tracker.service.DashboardService;
 import jakarta.validation.Valid;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 @RestController
@@ -16,9 +21,11 @@ import org.springframework.web.bind.annotation.RestController;
 public class DashboardController {
 
     private final DashboardService dashboardService;
+    private final DailyRevenueService dailyRevenueService;
 
-    public DashboardController(DashboardService dashboardService) {
+    public DashboardController(DashboardService dashboardService, DailyRevenueService dailyRevenueService) {
         this.dashboardService = dashboardService;
+        this.dailyRevenueService = dailyRevenueService;
     }
 
     @PostMapping("/evolution")
@@ -27,9 +34,29 @@ public class DashboardController {
         return ResponseEntity.ok(dashboardEvolutionDTO);
     }
 
+    @PostMapping("/orders")
+    public ResponseEntity<PageResponseDTO<OrderResponseDTO>> getPeriodOrders(@RequestBody @Valid DashboardFilterDTO filter) {
+        return ResponseEntity.ok(dashboardService.findPeriodOrders(filter));
+    }
+
+    @PostMapping(value = "/orders", params = "cursor")
+    public ResponseEntity<CursorPageResponseDTO<OrderResponseDTO>> scrollPeriodOrders(
+            @RequestBody @Valid DashboardFilterDTO filter,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size
+    ) {
+        return ResponseEntity.ok(dashboardService.scrollPeriodOrders(filter, cursor, size));
+    }
+
     @PostMapping("/performance")
     public ResponseEntity<DashboardPerformanceDTO> getPerformance(@RequestBody @Valid DashboardFilterDTO dashboardFilterDTO) {
         DashboardPerformanceDTO dashboardPerformanceDTO = dashboardService.getPerformance(dashboardFilterDTO);
         return ResponseEntity.ok(dashboardPerformanceDTO);
     }
+
+    @PostMapping("/rollup/rebuild")
+    public ResponseEntity<Void> rebuildRollup() {
+        dailyRevenueService.rebuild();
+        return ResponseEntity.noContent().build();
+    }
 }
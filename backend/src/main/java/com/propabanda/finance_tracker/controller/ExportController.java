@@ -1,90 +1,123 @@
 package com.propabanda.finance_tracker.controller;
 
-import com.propabanda.finance_tracker.dto.DashboardEvolutionDTO;
-import com.propabanda.finance_tracker.dto.DashboardFilterDTO;
-import com.propabanda.finance_tracker.dto.ItemPerformanceDTO;
-import com.propabanda.finance_tracker.dto.OrderFilterDTO;
-import com.propabanda.finance_tracker.dto.response.ClientResponseDTO;
-import com.propabanda.finance_tracker.dto.response.OrderResponseDTO;
-import com.propabanda.finance_tracker.model.ClientStatus;
-import com.propabanda.finance_tracker.service.*;
-import org.springframework.core.io.ByteArrayResource;
+import com.propabanda.finance_tracker.dto.ExportFilterDTO;
+import com.propabanda.finance_tracker.dto.response.ExportJobResponseDTO;
+import com.propabanda.finance_tracker.service.DataExportService;
+import com.propabanda.finance_tracker.service.ExportJobService;
+import com.propabanda.finance_tracker.service.ReportExportService;
+import com.propabanda.finance_tracker.service.StatementExportService;
+import org.springframework.core.io.FileSystemResource;
 import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
-import java.time.LocalDate;
-import java.util.HashSet;
-import java.util.List;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.Locale;
+import java.util.Optional;
 
 @RestController
 @RequestMapping("/export")
 public class ExportController {
-    private final ClientService clientService;
-    private final OrderService orderService;
-    private final DashboardService dashboardService;
-    private final ExcelExportService excelExportService;
-
-    public ExportController(ClientService clientService, OrderService orderService, DashboardService dashboardService, ExcelExportService excelExportService) {
-        this.clientService = clientService;
-        this.orderService = orderService;
-        this.dashboardService = dashboardService;
-        this.excelExportService = excelExportService;
+    private final ReportExportService reportExportService;
+    private final ExportJobService exportJobService;
+    private final DataExportService dataExportService;
+    private final StatementExportService statementExportService;
+
+    public ExportController(ReportExportService reportExportService, ExportJobService exportJobService,
+                            DataExportService dataExportService, StatementExportService statementExportService) {
+        this.reportExportService = reportExportService;
+        this.exportJobService = exportJobService;
+        this.dataExportService = dataExportService;
+        this.statementExportService = statementExportService;
     }
 
     @GetMapping("/report.xlsx")
-    public ResponseEntity<?> exportFilteredData(
-            @RequestParam(required = false) String startDate,
-            @RequestParam(required = false) String endDate,
-            @RequestParam(required = false) List<Long> itemIds,
-            @RequestParam(required = false) ClientStatus status)
-    {
+    public ResponseEntity<StreamingResponseBody> exportFilteredData(ExportFilterDTO exportFilterDTO) {
+        StreamingResponseBody body = out ->
+                reportExportService.export(exportFilterDTO, out, ReportExportService.Progress.NONE);
+
+        return ResponseEntity.ok()
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=relatorio_completo.xlsx")
+                .contentType(MediaType.APPLICATION_OCTET_STREAM)
+                .body(body);
+    }
+
+    @GetMapping("/statements.zip")
+    public ResponseEntity<StreamingResponseBody> exportClientStatements(ExportFilterDTO exportFilterDTO) {
+        StreamingResponseBody body = out -> statementExportService.writeStatements(exportFilterDTO, out);
+
+        return ResponseEntity.ok()
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=extratos_clientes.zip")
+                .contentType(MediaType.parseMediaType("application/zip"))
+                .body(body);
+    }
+
+    @GetMapping("/clients.{format:csv|ndjson}")
+    public ResponseEntity<StreamingResponseBody> exportClients(@PathVariable String format, ExportFilterDTO exportFilterDTO) {
+        DataExportService.Format dataFormat = DataExportService.Format.valueOf(format.toUpperCase(Locale.ROOT));
+        return streamData("clientes." + format, dataFormat,
+                out -> dataExportService.writeClients(exportFilterDTO, dataFormat, out));
+    }
+
+    @GetMapping("/orders.{format:csv|ndjson}")
+    public ResponseEntity<StreamingResponseBody> exportOrders(@PathVariable String format, ExportFilterDTO exportFilterDTO) {
+        DataExportService.Format dataFormat = DataExportService.Format.valueOf(format.toUpperCase(Locale.ROOT));
+        return streamData("pedidos." + format, dataFormat,
+                out -> dataExportService.writeOrders(exportFilterDTO, dataFormat, out));
+    }
+
+    @PostMapping("/jobs")
+    public ResponseEntity<?> submitExportJob(ExportFilterDTO exportFilterDTO) {
         try {
-            DashboardFilterDTO dashboardFilter = new DashboardFilterDTO();
-            OrderFilterDTO orderFilter = new OrderFilterDTO();
-
-            if (startDate != null && !startDate.isEmpty()) {
-                LocalDate parsedDate = LocalDate.parse(startDate);
-                dashboardFilter.setStartDate(parsedDate);
-                orderFilter.setStartDate(parsedDate);
-            }
-
-            if (endDate != null && !endDate.isEmpty()) {
-                LocalDate parsedDate = LocalDate.parse(endDate);
-                dashboardFilter.setEndDate(parsedDate);
-                orderFilter.setEndDate(parsedDate);
-            }
-
-            if (itemIds != null && !itemIds.isEmpty()) {
-                dashboardFilter.setItemIds(new HashSet<>(itemIds));
-                orderFilter.setItemIds(itemIds);
-            }
-
-            orderFilter.setSortBy("emissionDate");
-            orderFilter.setDirection("asc");
-
-            List<ClientResponseDTO> clients = clientService.findAll();
-            List<OrderResponseDTO> orders = orderService.findAllFiltered(orderFilter);
-            DashboardEvolutionDTO dashboard = dashboardService.getEvolution(dashboardFilter);
-            List<ItemPerformanceDTO> itemPerformance = dashboardService.getPerformance(dashboardFilter).getItemPerformances();
-
-            byte[] excelData = excelExportService.generateFullReport(clients, orders, dashboard, itemPerformance, status);
-            ByteArrayResource resource = new ByteArrayResource(excelData);
-
-            return ResponseEntity.ok()
-                    .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=relatorio_completo.xlsx")
-                    .contentType(MediaType.APPLICATION_OCTET_STREAM)
-                    .contentLength(excelData.length)
-                    .body(resource);
-        } catch (Exception e) {
-            e.printStackTrace();
+            return ResponseEntity.status(HttpStatus.ACCEPTED).body(exportJobService.submit(exportFilterDTO));
+        } catch (IllegalStateException e) {
             return ResponseEntity
-                    .status(500)
-                    .body(new ErrorResponse("Falha ao gerar o arquivo de exportação: " + e.getMessage()));
+                    .status(HttpStatus.SERVICE_UNAVAILABLE)
+                    .body(new ErrorResponse(e.getMessage()));
         }
     }
 
+    @GetMapping("/jobs/{id}")
+    public ResponseEntity<ExportJobResponseDTO> findExportJob(@PathVariable String id) {
+        return exportJobService.findById(id)
+                .map(ResponseEntity::ok)
+                .orElse(ResponseEntity.notFound().build());
+    }
+
+    @GetMapping("/jobs/{id}/file")
+    public ResponseEntity<FileSystemResource> downloadExportJob(@PathVariable String id) {
+        if (exportJobService.findById(id).isEmpty()) {
+            return ResponseEntity.notFound().build();
+        }
+        Optional<Path> file = exportJobService.findFile(id);
+        if (file.isEmpty()) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).build();
+        }
+        FileSystemResource resource = new FileSystemResource(file.get());
+        return ResponseEntity.ok()
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=relatorio_completo.xlsx")
+                .contentType(MediaType.APPLICATION_OCTET_STREAM)
+                .contentLength(resource.getFile().length())
+                .body(resource);
+    }
+
+    private ResponseEntity<StreamingResponseBody> streamData(
+            String filename,
+            DataExportService.Format format,
+            StreamingResponseBody body) {
+        MediaType mediaType = format == DataExportService.Format.CSV
+                ? new MediaType("text", "csv", StandardCharsets.UTF_8)
+                : MediaType.APPLICATION_NDJSON;
+        return ResponseEntity.ok()
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=" + filename)
+                .contentType(mediaType)
+                .body(body);
+    }
+
     private static class ErrorResponse {
         private final String message;
 
@@ -96,4 +129,4 @@ public class ExportController {
             return message;
         }
     }
-}
\ No newline at end of file
+}
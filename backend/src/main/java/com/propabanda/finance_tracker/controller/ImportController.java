@@ -1,5 +1,7 @@
 package com.propabanda.finance_tracker.controller;
 
+import com.propabanda.finance_tracker.dto.response.ImportReportDTO;
+import com.propabanda.finance_tracker.service.CsvImportService;
 import com.propabanda.finance_tracker.service.ExcelImportService;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -10,14 +12,21 @@ import org.springframework.web.multipart.MultipartFile;
 public class ImportController {
 
     private final ExcelImportService excelImportService;
+    private final CsvImportService csvImportService;
 
-    public ImportController(ExcelImportService excelImportService) {
+    public ImportController(ExcelImportService excelImportService, CsvImportService csvImportService) {
         this.excelImportService = excelImportService;
+        this.csvImportService = csvImportService;
     }
 
     @PostMapping
-    public ResponseEntity<Void> importExcel(@RequestParam("file") MultipartFile file) {
-        excelImportService.importFromExcel(file);
-        return ResponseEntity.ok().build();
+    public ResponseEntity<ImportReportDTO> importExcel(@RequestParam("file") MultipartFile file) {
+        return ResponseEntity.ok(excelImportService.importFromExcel(file));
+    }
+
+    @PostMapping("/csv")
+    public ResponseEntity<ImportReportDTO> importCsv(@RequestParam(value = "clients", required = false) MultipartFile clients,
+                                          @RequestParam(value = "orders", required = false) MultipartFile orders) {
+        return ResponseEntity.ok(csvImportService.importFromCsv(clients, orders));
     }
 }
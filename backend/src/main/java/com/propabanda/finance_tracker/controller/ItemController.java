@@ -4,6 +4,7 @@ import com.propabanda.finance_tracker.dto.request.ItemRequestDTO;
 import com.propabanda.finance_tracker.dto.response.ItemResponseDTO;
 import com.propabanda.finance_tracker.service.ItemService;
 import jakarta.validation.Valid;
+import org.springframework.http.CacheControl;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
@@ -19,9 +20,17 @@ public class ItemController {
         this.itemService = itemService;
     }
 
+    // A matching If-None-Match gets a 304. The ETag is read before the list: if the catalog changes
+    // in between, the client just revalidates once more instead of caching new content under an old tag.
+    // An explicit Cache-Control keeps Spring Security from adding no-store, which would stop browsers
+    // from keeping the list and revalidating it.
     @GetMapping
     public ResponseEntity<List<ItemResponseDTO>> findAllItems() {
-        return ResponseEntity.ok(itemService.findAll());
+        String etag = itemService.catalogEtag();
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.noCache().cachePrivate())
+                .eTag(etag)
+                .body(itemService.findAll());
     }
 
     @GetMapping("/{id}")
@@ -42,7 +51,7 @@ public class ItemController {
 
     @PutMapping("/{id}")
     public ResponseEntity<ItemResponseDTO> updateItem(@PathVariable Long id, @RequestBody @Valid ItemRequestDTO itemRequestDTO) {
-        if (itemService.findModelById(id).isEmpty()) {
+        if (itemService.findById(id).isEmpty()) {
             return ResponseEntity.notFound().build();
         }
 
@@ -51,7 +60,7 @@ public class ItemController {
 
     @DeleteMapping("/{id}")
     public ResponseEntity<Void> deleteItem(@PathVariable Long id) {
-        if (itemService.findModelById(id).isEmpty()) {
+        if (itemService.findById(id).isEmpty()) {
             return ResponseEntity.notFound().build();
         }
 
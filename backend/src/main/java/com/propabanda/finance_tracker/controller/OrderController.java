@@ -2,8 +2,13 @@ package com.propabanda.finance_tracker.controller;
 
 import com.propabanda.finance_tracker.dto.ClientOrderFilterDTO;
 import com.propabanda.finance_tracker.dto.OrderFilterDTO;
+import com.propabanda.finance_tracker.dto.request.OrderBatchRequestDTO;
 import com.propabanda.finance_tracker.dto.request.OrderRequestDTO;
+import com.propabanda.finance_tracker.dto.response.CursorPageResponseDTO;
+import com.propabanda.finance_tracker.dto.response.OrderBatchResultDTO;
 import com.propabanda.finance_tracker.dto.response.OrderResponseDTO;
+import com.propabanda.finance_tracker.dto.response.PageResponseDTO;
+import com.propabanda.finance_tracker.repository.OrderSpecifications;
 import com.propabanda.finance_tracker.service.OrderService;
 import jakarta.validation.Valid;
 import org.springframework.core.io.FileSystemResource;
@@ -31,6 +36,18 @@ public class OrderController {
         return ResponseEntity.ok(orderService.findAll());
     }
 
+    @GetMapping(params = "cursor")
+    public ResponseEntity<CursorPageResponseDTO<OrderResponseDTO>> scrollOrders(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size,
+            @RequestParam(required = false) String direction
+    ) {
+        OrderFilterDTO orderFilterDTO = new OrderFilterDTO();
+        orderFilterDTO.setSortBy(OrderSpecifications.SORT_EMISSION_DATE);
+        orderFilterDTO.setDirection(direction);
+        return ResponseEntity.ok(orderService.scrollFiltered(orderFilterDTO, cursor, size));
+    }
+
     @GetMapping("/{id}")
     public ResponseEntity<OrderResponseDTO> findOrderById(@PathVariable Long id) {
         return orderService.findById(id)
@@ -43,6 +60,12 @@ public class OrderController {
         return ResponseEntity.ok(orderService.save(orderRequestDTO));
     }
 
+    // Entries are validated individually; the response lists the outcome of each one in request order.
+    @PostMapping("/batch")
+    public ResponseEntity<List<OrderBatchResultDTO>> saveOrders(@RequestBody List<OrderBatchRequestDTO> orderBatchRequestDTOs) {
+        return ResponseEntity.ok(orderService.saveAll(orderBatchRequestDTOs));
+    }
+
     @PutMapping("/{id}")
     public ResponseEntity<OrderResponseDTO> updateOrder(@PathVariable Long id, @RequestBody @Valid OrderRequestDTO orderRequestDTO) {
         if (orderService.findModelById(id).isEmpty()) {
@@ -61,17 +84,26 @@ public class OrderController {
     }
 
     @PostMapping("/filter")
-    public ResponseEntity<List<OrderResponseDTO>> filterOrders(@RequestBody OrderFilterDTO orderFilterDTO) {
-        List<OrderResponseDTO> filtered = orderService.findAllFiltered(orderFilterDTO);
+    public ResponseEntity<PageResponseDTO<OrderResponseDTO>> filterOrders(@RequestBody OrderFilterDTO orderFilterDTO) {
+        PageResponseDTO<OrderResponseDTO> filtered = orderService.findAllFiltered(orderFilterDTO);
         return ResponseEntity.ok(filtered);
     }
 
+    @PostMapping(value = "/filter", params = "cursor")
+    public ResponseEntity<CursorPageResponseDTO<OrderResponseDTO>> scrollFilteredOrders(
+            @RequestBody OrderFilterDTO orderFilterDTO,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size
+    ) {
+        return ResponseEntity.ok(orderService.scrollFiltered(orderFilterDTO, cursor, size));
+    }
+
     @PostMapping("/client/{clientId}/filter")
-    public ResponseEntity<List<OrderResponseDTO>> filterOrdersByClient(
+    public ResponseEntity<PageResponseDTO<OrderResponseDTO>> filterOrdersByClient(
             @PathVariable Long clientId,
             @RequestBody ClientOrderFilterDTO clientOrderFilterDTO
     ) {
-        List<OrderResponseDTO> filtered = orderService.findByClientFiltered(clientId, clientOrderFilterDTO);
+        PageResponseDTO<OrderResponseDTO> filtered = orderService.findByClientFiltered(clientId, clientOrderFilterDTO);
         return ResponseEntity.ok(filtered);
     }
 
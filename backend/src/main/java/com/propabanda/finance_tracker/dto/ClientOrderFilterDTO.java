@@ -11,4 +11,6 @@ public class ClientOrderFilterDTO {
     private String sortBy;
     private String direction;
 
+    private Integer page;
+    private Integer size;
 }
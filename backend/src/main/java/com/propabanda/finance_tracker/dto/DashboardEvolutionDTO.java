@@ -1,5 +1,6 @@
 package com.propabanda.finance_tracker.dto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.propabanda.finance_tracker.dto.response.OrderResponseDTO;
 import lombok.Getter;
 import lombok.Setter;
@@ -16,5 +17,6 @@ public class DashboardEvolutionDTO {
     private BigDecimal finalBalance;
     private Integer totalOrders;
     private BigDecimal variationPercent;
+    @JsonInclude(JsonInclude.Include.NON_NULL)
     private List<OrderResponseDTO> orders;
 }
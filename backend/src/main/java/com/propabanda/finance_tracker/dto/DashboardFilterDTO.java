@@ -13,4 +13,8 @@ public class DashboardFilterDTO {
     private LocalDate startDate;
     private LocalDate endDate;
     private Set<Long> itemIds;
+
+    private Boolean includeOrders;
+    private Integer page;
+    private Integer size;
 }
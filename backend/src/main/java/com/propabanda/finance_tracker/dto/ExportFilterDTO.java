@@ -0,0 +1,22 @@
+package com.propabanda.finance_tracker.dto;
+
+import com.propabanda.finance_tracker.model.ClientStatus;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.format.annotation.DateTimeFormat;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Getter
+@Setter
+public class ExportFilterDTO {
+
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+    private LocalDate startDate;
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+    private LocalDate endDate;
+    private List<Long> itemIds;
+
+    private ClientStatus status;
+}
@@ -17,4 +17,7 @@ public class OrderFilterDTO {
     private LocalDate startDate;
     private LocalDate  endDate;
     private List<Long> itemIds;
+
+    private Integer page;
+    private Integer size;
 }
@@ -0,0 +1,25 @@
+package com.propabanda.finance_tracker.dto.projection;
+
+import com.propabanda.finance_tracker.model.ClientStatus;
+
+import java.time.LocalDateTime;
+
+public record ClientRow(
+        Long id,
+        String name,
+        String documentNumber,
+        ClientStatus status,
+        LocalDateTime createdAt,
+        String representativeName,
+        String representativeEmail,
+        String representativePhone,
+        String zipCode,
+        String state,
+        String city,
+        String neighbourhood,
+        String street,
+        String number,
+        String complement,
+        String reference
+) {
+}
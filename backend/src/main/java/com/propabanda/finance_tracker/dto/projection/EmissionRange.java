@@ -0,0 +1,9 @@
+package com.propabanda.finance_tracker.dto.projection;
+
+import java.time.LocalDate;
+
+public record EmissionRange(
+        LocalDate first,
+        LocalDate last
+) {
+}
@@ -0,0 +1,10 @@
+package com.propabanda.finance_tracker.dto.projection;
+
+import java.math.BigDecimal;
+
+public record EvolutionTotals(
+        BigDecimal initialBalance,
+        BigDecimal totalIncome,
+        Long orderCount
+) {
+}
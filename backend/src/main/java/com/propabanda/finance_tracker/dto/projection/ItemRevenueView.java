@@ -0,0 +1,14 @@
+package com.propabanda.finance_tracker.dto.projection;
+
+import java.math.BigDecimal;
+
+public interface ItemRevenueView {
+
+    Long getItemId();
+
+    String getItemName();
+
+    BigDecimal getTotalRevenue();
+
+    BigDecimal getPercentageOfTotal();
+}
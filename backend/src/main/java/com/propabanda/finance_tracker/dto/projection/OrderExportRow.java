@@ -0,0 +1,22 @@
+package com.propabanda.finance_tracker.dto.projection;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+public record OrderExportRow(
+        Long id,
+        String identifier,
+        Long clientId,
+        String clientName,
+        String itemNames,
+        String itemIds,
+        BigDecimal value,
+        BigDecimal discount,
+        Integer installmentDay,
+        Integer installmentCount,
+        Integer paidInstallmentsCount,
+        LocalDate contractStartDate,
+        LocalDate contractEndDate,
+        LocalDate emissionDate
+) {
+}
@@ -0,0 +1,8 @@
+package com.propabanda.finance_tracker.dto.projection;
+
+public record OrderItemRow(
+        Long orderId,
+        Long itemId,
+        String itemName
+) {
+}
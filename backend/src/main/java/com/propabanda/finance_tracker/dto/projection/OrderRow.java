@@ -0,0 +1,21 @@
+package com.propabanda.finance_tracker.dto.projection;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+public record OrderRow(
+        Long id,
+        String identifier,
+        Long clientId,
+        String clientName,
+        BigDecimal value,
+        BigDecimal discount,
+        Integer installmentDay,
+        Integer installmentCount,
+        Integer paidInstallmentsCount,
+        LocalDate contractStartDate,
+        LocalDate contractEndDate,
+        LocalDate emissionDate,
+        String contractFilePath
+) {
+}
@@ -0,0 +1,12 @@
+package com.propabanda.finance_tracker.dto.request;
+
+import lombok.Getter;
+import lombok.Setter;
+
+// One entry of a bulk push: updates the order with this id, or creates one when the id is null.
+@Getter
+@Setter
+public class OrderBatchRequestDTO extends OrderRequestDTO {
+
+    private Long id;
+}
@@ -0,0 +1,19 @@
+package com.propabanda.finance_tracker.dto.response;
+
+import lombok.Getter;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+@Getter
+@Setter
+public class ExportJobResponseDTO {
+
+    private String id;
+    private String status;
+    private Long processedRows;
+    private Long totalRows;
+    private LocalDateTime createdAt;
+    private LocalDateTime finishedAt;
+    private String error;
+}
@@ -0,0 +1,13 @@
+package com.propabanda.finance_tracker.dto.response;
+
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+public class ImportRejectionDTO {
+
+    private String sheet;
+    private Integer line;
+    private String reason;
+}
@@ -0,0 +1,16 @@
+package com.propabanda.finance_tracker.dto.response;
+
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.List;
+
+@Getter
+@Setter
+public class ImportReportDTO {
+
+    private Integer importedClients;
+    private Integer importedOrders;
+    private Long rejectedRows;
+    private List<ImportRejectionDTO> rejections;
+}
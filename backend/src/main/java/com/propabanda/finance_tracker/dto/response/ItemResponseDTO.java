@@ -1,10 +1,14 @@
 package com.propabanda.finance_tracker.dto.response;
 
+import lombok.AllArgsConstructor;
 import lombok.Getter;
+import lombok.NoArgsConstructor;
 import lombok.Setter;
 
 @Getter
 @Setter
+@NoArgsConstructor
+@AllArgsConstructor
 public class ItemResponseDTO {
 
     private Long id;
@@ -0,0 +1,14 @@
+package com.propabanda.finance_tracker.dto.response;
+
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+public class OrderBatchResultDTO {
+
+    private Integer index;
+    private String status;
+    private OrderResponseDTO order;
+    private String error;
+}
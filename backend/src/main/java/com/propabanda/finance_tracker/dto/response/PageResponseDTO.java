@@ -0,0 +1,29 @@
+package com.propabanda.finance_tracker.dto.response;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.data.domain.Page;
+
+import java.util.List;
+import java.util.function.Function;
+
+@Getter
+@Setter
+public class PageResponseDTO<T> {
+
+    private List<T> content;
+    private Integer page;
+    private Integer size;
+    private Long totalElements;
+    private Integer totalPages;
+
+    public static <E, T> PageResponseDTO<T> of(Page<E> page, Function<E, T> mapper) {
+        PageResponseDTO<T> pageResponseDTO = new PageResponseDTO<>();
+        pageResponseDTO.setContent(page.getContent().stream().map(mapper).toList());
+        pageResponseDTO.setPage(page.getPageable().isPaged() ? page.getNumber() : 0);
+        pageResponseDTO.setSize(page.getPageable().isPaged() ? page.getSize() : page.getNumberOfElements());
+        pageResponseDTO.setTotalElements(page.getTotalElements());
+        pageResponseDTO.setTotalPages(page.getTotalPages());
+        return pageResponseDTO;
+    }
+}
@@ -7,6 +7,7 @@ import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 
 import java.util.Map;
+import java.util.Objects;
 import java.util.stream.Collectors;
 
 @RestControllerAdvice
@@ -22,4 +23,10 @@ public class RestExceptionHandler {
                         (a,b) -> a));
         return ResponseEntity.badRequest().body(errors);
     }
+
+    // Services reject bad request input, such as an invalid cursor, with IllegalArgumentException.
+    @ExceptionHandler(IllegalArgumentException.class)
+    public ResponseEntity<Map<String,String>> handleIllegalArgument(IllegalArgumentException ex) {
+        return ResponseEntity.badRequest().body(Map.of("error", Objects.requireNonNullElse(ex.getMessage(), "Invalid request")));
+    }
 }
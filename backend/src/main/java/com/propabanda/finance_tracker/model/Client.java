@@ -6,18 +6,32 @@ import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Pattern;
 import jakarta.validation.constraints.Size;
 import lombok.*;
+import org.hibernate.annotations.BatchSize;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.annotations.CreationTimestamp;
 
 import java.time.LocalDateTime;
 
 @Entity
 @Table(name = "client")
+@BatchSize(size = 50)
+@NamedEntityGraph(name = "Client.details", attributeNodes = {
+        @NamedAttributeNode("representative"),
+        @NamedAttributeNode("address")
+})
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "client")
 @Getter
 @Setter
 public class Client {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE,
+            generator = "client_seq")
+    @SequenceGenerator(name  = "client_seq",
+            sequenceName = "client_seq",
+            allocationSize = 50)
     private Long id;
 
     @NotBlank
@@ -33,11 +47,11 @@ public class Client {
     @Column(name = "document_number", unique = true, nullable = false)
     private String documentNumber;
 
-    @OneToOne(cascade = CascadeType.ALL)
+    @OneToOne(cascade = CascadeType.ALL, fetch = FetchType.LAZY)
     @JoinColumn(name = "representative_id", referencedColumnName = "id", nullable = false, unique = true)
     private Representative representative;
 
-    @OneToOne(cascade = CascadeType.ALL)
+    @OneToOne(cascade = CascadeType.ALL, fetch = FetchType.LAZY)
     @JoinColumn(name = "address_id", referencedColumnName = "id", nullable = false, unique = true)
     private Address address;
 
@@ -4,6 +4,9 @@ import jakarta.persistence.*;
 import jakarta.validation.constraints.*;
 import lombok.Getter;
 import lombok.Setter;
+import org.hibernate.annotations.BatchSize;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.annotations.CreationTimestamp;
 
 import java.math.BigDecimal;
@@ -14,6 +17,11 @@ import java.util.Set;
 
 @Entity
 @Table(name = "app_order")
+@NamedEntityGraph(name = "Order.client", attributeNodes = @NamedAttributeNode("client"))
+@NamedEntityGraph(name = "Order.clientAndItems", attributeNodes = {
+        @NamedAttributeNode("client"),
+        @NamedAttributeNode("items")
+})
 @Getter
 @Setter
 public class Order {
@@ -23,7 +31,7 @@ public class Order {
             generator = "app_order_seq")
     @SequenceGenerator(name  = "app_order_seq",
             sequenceName = "app_order_id_seq",
-            allocationSize = 1)
+            allocationSize = 50)
     private Long id;
 
     @Column(name = "identifier", nullable = false, unique = true, updatable = false)
@@ -76,6 +84,8 @@ public class Order {
     private String contractFilePath;
 
     @ManyToMany
+    @BatchSize(size = 50)
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "order-items")
     @JoinTable(
             name = "order_item_link",
             joinColumns = @JoinColumn(name = "order_id"),
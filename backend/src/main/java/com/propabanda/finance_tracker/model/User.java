@@ -15,7 +15,11 @@ import lombok.Setter;
 public class User {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE,
+            generator = "app_user_seq")
+    @SequenceGenerator(name  = "app_user_seq",
+            sequenceName = "app_user_seq",
+            allocationSize = 50)
     private Long id;
 
     @NotBlank
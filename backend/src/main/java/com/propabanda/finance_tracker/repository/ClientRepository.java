@@ -1,13 +1,60 @@
 package com.propabanda.finance_tracker.repository;
 
+import com.propabanda.finance_tracker.dto.projection.ClientRow;
 import com.propabanda.finance_tracker.model.Client;
 import com.propabanda.finance_tracker.model.ClientStatus;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
-public interface ClientRepository extends JpaRepository<Client, Long> {
+public interface ClientRepository extends JpaRepository<Client, Long>, JpaSpecificationExecutor<Client> {
+
+    @Override
+    @EntityGraph("Client.details")
+    List<Client> findAll();
+
+    @Override
+    @EntityGraph("Client.details")
+    List<Client> findAll(Specification<Client> spec);
+
+    @Query("""
+            select new com.propabanda.finance_tracker.dto.projection.ClientRow(
+                c.id, c.name, c.documentNumber, c.status, c.createdAt,
+                r.name, r.email, r.phone,
+                a.zipCode, a.state, a.city, a.neighbourhood, a.street, a.number, a.complement, a.reference)
+            from Client c
+            join c.representative r
+            join c.address a
+            order by c.id
+            """)
+    List<ClientRow> findAllRows();
+
+    @Query("""
+            select new com.propabanda.finance_tracker.dto.projection.ClientRow(
+                c.id, c.name, c.documentNumber, c.status, c.createdAt,
+                r.name, r.email, r.phone,
+                a.zipCode, a.state, a.city, a.neighbourhood, a.street, a.number, a.complement, a.reference)
+            from Client c
+            join c.representative r
+            join c.address a
+            where :status is null or c.status = :status
+            order by c.id
+            """)
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = OrderRepository.EXPORT_FETCH_SIZE),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    Stream<ClientRow> streamAllRows(@Param("status") ClientStatus status);
 
     Optional<Client> findByDocumentNumber(String documentNumber);
 
@@ -0,0 +1,79 @@
+package com.propabanda.finance_tracker.repository;
+
+import com.propabanda.finance_tracker.dto.ClientFilterDTO;
+import com.propabanda.finance_tracker.model.Client;
+import com.propabanda.finance_tracker.util.CursorCodec;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Predicate;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+public final class ClientSpecifications {
+
+    public static final String SORT_NAME = "name";
+    public static final String SORT_CREATED_AT = "createdAt";
+
+    private ClientSpecifications() {
+    }
+
+    public static Specification<Client> filtered(ClientFilterDTO clientFilterDTO) {
+        return filtered(clientFilterDTO, null);
+    }
+
+    public static Specification<Client> filtered(ClientFilterDTO clientFilterDTO, CursorCodec.Cursor after) {
+        return (root, query, cb) -> {
+            List<Predicate> predicates = new ArrayList<>();
+
+            if (clientFilterDTO.getSearch() != null && !clientFilterDTO.getSearch().isBlank()) {
+                String term = "%" + OrderSpecifications.escapeLike(clientFilterDTO.getSearch().toLowerCase()) + "%";
+                predicates.add(cb.like(cb.lower(root.get("name")), term, '\\'));
+            }
+
+            if (clientFilterDTO.getStatus() != null) {
+                predicates.add(cb.equal(root.get("status"), clientFilterDTO.getStatus()));
+            }
+
+            boolean desc = "desc".equalsIgnoreCase(clientFilterDTO.getDirection());
+            boolean byCreatedAt = SORT_CREATED_AT.equals(sortKey(clientFilterDTO));
+            Expression<LocalDateTime> createdAt = root.get("createdAt");
+            Expression<String> name = cb.lower(root.get("name"));
+
+            if (after != null) {
+                predicates.add(byCreatedAt
+                        ? Keyset.after(cb, createdAt, cb.literal(LocalDateTime.parse(after.value())),
+                                root.get("id"), after.id(), desc)
+                        : Keyset.after(cb, name, cb.lower(cb.literal(after.value())),
+                                root.get("id"), after.id(), desc));
+            }
+
+            if (!Long.class.equals(query.getResultType()) && !long.class.equals(query.getResultType())) {
+                Expression<?> sortKey = byCreatedAt ? createdAt : name;
+                query.orderBy(
+                        desc ? cb.desc(sortKey) : cb.asc(sortKey),
+                        desc ? cb.desc(root.get("id")) : cb.asc(root.get("id")));
+            }
+
+            return cb.and(predicates.toArray(new Predicate[0]));
+        };
+    }
+
+    public static String sortKey(ClientFilterDTO clientFilterDTO) {
+        return SORT_CREATED_AT.equalsIgnoreCase(clientFilterDTO.getSortBy())
+                ? SORT_CREATED_AT
+                : SORT_NAME;
+    }
+
+    public static Function<String, ?> sortValueParser(String sortKey) {
+        return SORT_CREATED_AT.equals(sortKey) ? LocalDateTime::parse : Function.identity();
+    }
+
+    public static String sortValue(Client client, String sortKey) {
+        return SORT_CREATED_AT.equals(sortKey)
+                ? client.getCreatedAt().toString()
+                : client.getName();
+    }
+}
@@ -0,0 +1,104 @@
+package com.propabanda.finance_tracker.repository;
+
+import com.propabanda.finance_tracker.dto.projection.EvolutionTotals;
+import com.propabanda.finance_tracker.dto.projection.ItemRevenueView;
+import com.propabanda.finance_tracker.model.DailyRevenue;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDate;
+import java.util.List;
+
+public interface DailyRevenueRepository extends JpaRepository<DailyRevenue, LocalDate> {
+
+    @Query("""
+            select new com.propabanda.finance_tracker.dto.projection.EvolutionTotals(
+                sum(case when d.revenueDate < :startDate then d.revenue end),
+                sum(case when d.revenueDate >= :startDate then d.revenue end),
+                sum(case when d.revenueDate >= :startDate then d.orderCount end))
+            from DailyRevenue d
+            where d.revenueDate <= :endDate
+            """)
+    EvolutionTotals aggregateEvolution(
+            @Param("startDate") LocalDate startDate,
+            @Param("endDate") LocalDate endDate);
+
+    @Query(value = """
+            with item_revenue as (
+                select r.item_id,
+                       i.name as item_name,
+                       sum(r.revenue) as total_revenue
+                from daily_item_revenue r
+                join item i on i.id = r.item_id
+                where r.revenue_date between :startDate and :endDate
+                group by r.item_id, i.name
+            )
+            select cast(item_id as bigint) as "itemId",
+                   item_name as "itemName",
+                   total_revenue as "totalRevenue",
+                   case when sum(total_revenue) over () > 0
+                        then round(total_revenue * 100 / sum(total_revenue) over (), 2)
+                        else 0 end as "percentageOfTotal"
+            from item_revenue
+            order by item_id
+            """, nativeQuery = true)
+    List<ItemRevenueView> aggregateItemPerformance(
+            @Param("startDate") LocalDate startDate,
+            @Param("endDate") LocalDate endDate);
+
+    // Held until the transaction ends. The next refresh's statements then start after this commit,
+    // so their snapshot includes the orders this transaction wrote.
+    @Query(value = "select 1 from pg_advisory_xact_lock(hashtext('daily_revenue'))", nativeQuery = true)
+    int lockRefresh();
+
+    // The rollup writes declare the table they touch; a native update without query spaces makes
+    // Hibernate drop every second-level cache region.
+    @Modifying(flushAutomatically = true)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "daily_revenue"))
+    @Query(value = "delete from daily_revenue where revenue_date between :from and :to", nativeQuery = true)
+    void deleteDailyRevenue(@Param("from") LocalDate from, @Param("to") LocalDate to);
+
+    @Modifying(flushAutomatically = true)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "daily_revenue"))
+    @Query(value = """
+            insert into daily_revenue (revenue_date, revenue, order_count)
+            select o.emission_date, sum(o.value - o.value * round(o.discount / 100, 2)), count(*)
+            from app_order o
+            where o.emission_date between :from and :to
+            group by o.emission_date
+            on conflict (revenue_date) do update
+                set revenue = excluded.revenue, order_count = excluded.order_count
+            """, nativeQuery = true)
+    void insertDailyRevenue(@Param("from") LocalDate from, @Param("to") LocalDate to);
+
+    @Modifying(flushAutomatically = true)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "daily_item_revenue"))
+    @Query(value = "delete from daily_item_revenue where revenue_date between :from and :to", nativeQuery = true)
+    void deleteDailyItemRevenue(@Param("from") LocalDate from, @Param("to") LocalDate to);
+
+    // Same per-order share as OrderRepository.aggregateItemPerformance, pre-summed per day.
+    @Modifying(flushAutomatically = true)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "daily_item_revenue"))
+    @Query(value = """
+            insert into daily_item_revenue (revenue_date, item_id, revenue, order_count)
+            select po.emission_date, l.item_id, sum(round(po.discounted_value / po.item_count, 2)), count(*)
+            from (
+                select o.id,
+                       o.emission_date,
+                       o.value - o.value * round(o.discount / 100, 2) as discounted_value,
+                       (select count(*) from order_item_link c where c.order_id = o.id) as item_count
+                from app_order o
+                where o.emission_date between :from and :to
+            ) po
+            join order_item_link l on l.order_id = po.id
+            group by po.emission_date, l.item_id
+            on conflict (revenue_date, item_id) do update
+                set revenue = excluded.revenue, order_count = excluded.order_count
+            """, nativeQuery = true)
+    void insertDailyItemRevenue(@Param("from") LocalDate from, @Param("to") LocalDate to);
+}
@@ -1,12 +1,22 @@
 package com.propabanda.finance_tracker.repository;
 
+import com.propabanda.finance_tracker.dto.response.ItemResponseDTO;
 import com.propabanda.finance_tracker.model.Item;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 
+import java.util.List;
 import java.util.Optional;
 
 public interface ItemRepository extends JpaRepository<Item, Long> {
     boolean existsByName(String name);
 
     Optional<Item> findByNameIgnoreCase(String itemName);
+
+    @Query("""
+            select new com.propabanda.finance_tracker.dto.response.ItemResponseDTO(i.id, i.name)
+            from Item i
+            order by i.id
+            """)
+    List<ItemResponseDTO> findAllResponses();
 }
@@ -0,0 +1,31 @@
+package com.propabanda.finance_tracker.repository;
+
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Predicate;
+
+final class Keyset {
+
+    private Keyset() {
+    }
+
+    // Rows strictly after (value, id) in (sortKey, id) order. The leading sortKey >= value bound is
+    // redundant but gives the planner a start point on the (sortKey, id) index instead of a filter.
+    static <Y extends Comparable<? super Y>> Predicate after(
+            CriteriaBuilder cb,
+            Expression<Y> sortKey,
+            Expression<Y> value,
+            Expression<Long> id,
+            Long lastId,
+            boolean desc
+    ) {
+        if (desc) {
+            return cb.and(
+                    cb.lessThanOrEqualTo(sortKey, value),
+                    cb.or(cb.lessThan(sortKey, value), cb.lessThan(id, lastId)));
+        }
+        return cb.and(
+                cb.greaterThanOrEqualTo(sortKey, value),
+                cb.or(cb.greaterThan(sortKey, value), cb.greaterThan(id, lastId)));
+    }
+}
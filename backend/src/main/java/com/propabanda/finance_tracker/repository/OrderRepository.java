@@ -1,7 +1,166 @@
 package com.propabanda.finance_tracker.repository;
 
+import com.propabanda.finance_tracker.dto.projection.EmissionRange;
+import com.propabanda.finance_tracker.dto.projection.EvolutionTotals;
+import com.propabanda.finance_tracker.dto.projection.ItemRevenueView;
+import com.propabanda.finance_tracker.dto.projection.OrderExportRow;
+import com.propabanda.finance_tracker.dto.projection.OrderItemRow;
+import com.propabanda.finance_tracker.dto.projection.OrderRow;
 import com.propabanda.finance_tracker.model.Order;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
-public interface OrderRepository extends JpaRepository<Order, Long> {
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Stream;
+
+public interface OrderRepository extends JpaRepository<Order, Long>, JpaSpecificationExecutor<Order> {
+
+    // Rows pulled per round trip when streaming exports; PostgreSQL only honours it inside a transaction.
+    String EXPORT_FETCH_SIZE = "1000";
+
+    String EXPORT_SELECT = """
+            select new com.propabanda.finance_tracker.dto.projection.OrderExportRow(
+                o.id, o.identifier, c.id, c.name,
+                listagg(i.name, ', ') within group (order by i.name),
+                listagg(str(i.id), ',') within group (order by i.name),
+                o.value, o.discount, o.installmentDay, o.installmentCount, o.paidInstallmentsCount,
+                o.contractStartDate, o.contractEndDate, o.emissionDate)
+            from Order o
+            join o.client c
+            left join o.items i
+            where o.emissionDate between :startDate and :endDate
+            """;
+
+    String EXPORT_GROUP = """
+            group by o.id, c.id
+            order by o.emissionDate, o.id
+            """;
+
+    @Override
+    @EntityGraph("Order.clientAndItems")
+    List<Order> findAll();
+
+    @Override
+    @EntityGraph("Order.clientAndItems")
+    List<Order> findAllById(Iterable<Long> ids);
+
+    @Query("""
+            select new com.propabanda.finance_tracker.dto.projection.OrderRow(
+                o.id, o.identifier, c.id, c.name, o.value, o.discount,
+                o.installmentDay, o.installmentCount, o.paidInstallmentsCount,
+                o.contractStartDate, o.contractEndDate, o.emissionDate, o.contractFilePath)
+            from Order o
+            join o.client c
+            order by o.id
+            """)
+    List<OrderRow> findAllRows();
+
+    @Query("""
+            select new com.propabanda.finance_tracker.dto.projection.OrderItemRow(o.id, i.id, i.name)
+            from Order o
+            join o.items i
+            """)
+    List<OrderItemRow> findAllItemRows();
+
+    // Both ends are null when the item is not linked to any order.
+    @Query("""
+            select new com.propabanda.finance_tracker.dto.projection.EmissionRange(
+                min(o.emissionDate), max(o.emissionDate))
+            from Order o
+            join o.items i
+            where i.id = :itemId
+            """)
+    EmissionRange findEmissionRangeByItemId(@Param("itemId") Long itemId);
+
+    // Discounted value mirrors OrderService.applyValues: value - value * round(discount / 100, 2).
+    // Only orders with at least one of itemIds count; unfiltered ranges are served by DailyRevenueRepository.
+    @Query("""
+            select new com.propabanda.finance_tracker.dto.projection.EvolutionTotals(
+                sum(case when o.emissionDate < :startDate
+                    then o.value - o.value * round(o.discount / 100, 2) end),
+                sum(case when o.emissionDate >= :startDate and o.emissionDate <= :endDate
+                    then o.value - o.value * round(o.discount / 100, 2) end),
+                count(case when o.emissionDate >= :startDate and o.emissionDate <= :endDate
+                    then o.id end))
+            from Order o
+            where o.emissionDate <= :endDate
+              and o.id in (select linked.id from Order linked join linked.items i where i.id in :itemIds)
+            """)
+    EvolutionTotals aggregateEvolution(
+            @Param("startDate") LocalDate startDate,
+            @Param("endDate") LocalDate endDate,
+            @Param("itemIds") Collection<Long> itemIds);
+
+    // Each order's discounted value is split evenly across all of its items, rounded HALF_UP
+    // to cents per order, then summed per item. Unfiltered ranges are served by DailyRevenueRepository.
+    @Query(value = """
+            with period_order as (
+                select o.id,
+                       o.value - o.value * round(o.discount / 100, 2) as discounted_value,
+                       (select count(*) from order_item_link c where c.order_id = o.id) as item_count
+                from app_order o
+                where o.emission_date between :startDate and :endDate
+                  and exists (
+                        select 1 from order_item_link f
+                        where f.order_id = o.id and f.item_id in (:itemIds))
+            ),
+            item_revenue as (
+                select i.id as item_id,
+                       i.name as item_name,
+                       sum(round(po.discounted_value / po.item_count, 2)) as total_revenue
+                from period_order po
+                join order_item_link l on l.order_id = po.id
+                join item i on i.id = l.item_id
+                group by i.id, i.name
+            )
+            select cast(item_id as bigint) as "itemId",
+                   item_name as "itemName",
+                   total_revenue as "totalRevenue",
+                   case when sum(total_revenue) over () > 0
+                        then round(total_revenue * 100 / sum(total_revenue) over (), 2)
+                        else 0 end as "percentageOfTotal"
+            from item_revenue
+            order by item_id
+            """, nativeQuery = true)
+    List<ItemRevenueView> aggregateItemPerformance(
+            @Param("startDate") LocalDate startDate,
+            @Param("endDate") LocalDate endDate,
+            @Param("itemIds") Collection<Long> itemIds);
+
+    @Query(EXPORT_SELECT + EXPORT_GROUP)
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = EXPORT_FETCH_SIZE),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    Stream<OrderExportRow> streamExportRows(
+            @Param("startDate") LocalDate startDate,
+            @Param("endDate") LocalDate endDate);
+
+    @Query(EXPORT_SELECT
+            + "and o.id in (select linked.id from Order linked join linked.items li where li.id in :itemIds)\n"
+            + EXPORT_GROUP)
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = EXPORT_FETCH_SIZE),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    Stream<OrderExportRow> streamExportRows(
+            @Param("startDate") LocalDate startDate,
+            @Param("endDate") LocalDate endDate,
+            @Param("itemIds") Collection<Long> itemIds);
+
+    // Items are left to @BatchSize here: fetching a collection would force in-memory paging.
+    @Override
+    @EntityGraph("Order.client")
+    Page<Order> findAll(Specification<Order> spec, Pageable pageable);
 }
@@ -0,0 +1,137 @@
+package com.propabanda.finance_tracker.repository;
+
+import com.propabanda.finance_tracker.dto.ClientOrderFilterDTO;
+import com.propabanda.finance_tracker.dto.OrderFilterDTO;
+import com.propabanda.finance_tracker.model.Client;
+import com.propabanda.finance_tracker.model.Item;
+import com.propabanda.finance_tracker.model.Order;
+import com.propabanda.finance_tracker.util.CursorCodec;
+import jakarta.persistence.criteria.*;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+public final class OrderSpecifications {
+
+    public static final String SORT_EMISSION_DATE = "emissionDate";
+    public static final String SORT_CLIENT_NAME = "clientName";
+
+    private OrderSpecifications() {
+    }
+
+    public static Specification<Order> filtered(OrderFilterDTO orderFilterDTO) {
+        return filtered(orderFilterDTO, null);
+    }
+
+    public static Specification<Order> filtered(OrderFilterDTO orderFilterDTO, CursorCodec.Cursor after) {
+        return (root, query, cb) -> {
+            Join<Order, Client> client = root.join("client");
+            List<Predicate> predicates = new ArrayList<>();
+
+            if (orderFilterDTO.getSearch() != null && !orderFilterDTO.getSearch().isBlank()) {
+                String term = "%" + escapeLike(orderFilterDTO.getSearch().toLowerCase()) + "%";
+                predicates.add(cb.like(cb.lower(client.get("name")), term, '\\'));
+            }
+
+            if (orderFilterDTO.getStartDate() != null) {
+                predicates.add(cb.greaterThanOrEqualTo(root.get("emissionDate"), orderFilterDTO.getStartDate()));
+            }
+            if (orderFilterDTO.getEndDate() != null) {
+                predicates.add(cb.lessThanOrEqualTo(root.get("emissionDate"), orderFilterDTO.getEndDate()));
+            }
+
+            if (orderFilterDTO.getItemIds() != null && !orderFilterDTO.getItemIds().isEmpty()) {
+                predicates.add(root.get("id").in(orderIdsWithAnyItem(query, orderFilterDTO.getItemIds())));
+            }
+
+            boolean desc = "desc".equalsIgnoreCase(orderFilterDTO.getDirection());
+            boolean byEmissionDate = SORT_EMISSION_DATE.equals(sortKey(orderFilterDTO));
+            Expression<LocalDate> emissionDate = root.get("emissionDate");
+            Expression<String> clientName = cb.lower(client.get("name"));
+
+            if (after != null) {
+                predicates.add(byEmissionDate
+                        ? Keyset.after(cb, emissionDate, cb.literal(LocalDate.parse(after.value())),
+                                root.get("id"), after.id(), desc)
+                        : Keyset.after(cb, clientName, cb.lower(cb.literal(after.value())),
+                                root.get("id"), after.id(), desc));
+            }
+
+            // Count queries share this specification; ordering only matters for the page itself.
+            if (!Long.class.equals(query.getResultType()) && !long.class.equals(query.getResultType())) {
+                Expression<?> sortKey = byEmissionDate ? emissionDate : clientName;
+                query.orderBy(
+                        desc ? cb.desc(sortKey) : cb.asc(sortKey),
+                        desc ? cb.desc(root.get("id")) : cb.asc(root.get("id")));
+            }
+
+            return cb.and(predicates.toArray(new Predicate[0]));
+        };
+    }
+
+    public static Specification<Order> forClient(Long clientId, ClientOrderFilterDTO clientOrderFilterDTO) {
+        return (root, query, cb) -> {
+            List<Predicate> predicates = new ArrayList<>();
+            predicates.add(cb.equal(root.get("client").get("id"), clientId));
+
+            if (clientOrderFilterDTO.getSearch() != null && !clientOrderFilterDTO.getSearch().isBlank()) {
+                String term = "%" + escapeLike(clientOrderFilterDTO.getSearch().toLowerCase()) + "%";
+                predicates.add(cb.like(cb.lower(root.get("identifier")), term, '\\'));
+            }
+
+            if (!Long.class.equals(query.getResultType()) && !long.class.equals(query.getResultType())) {
+                boolean desc = "desc".equalsIgnoreCase(clientOrderFilterDTO.getDirection());
+                Expression<?> sortKey = switch (String.valueOf(clientOrderFilterDTO.getSortBy())) {
+                    case "id" -> root.get("id");
+                    case "itemName" -> cb.coalesce(firstItemName(query, cb, root), "");
+                    default -> root.get("emissionDate");
+                };
+                query.orderBy(
+                        desc ? cb.desc(sortKey) : cb.asc(sortKey),
+                        desc ? cb.desc(root.get("id")) : cb.asc(root.get("id")));
+            }
+
+            return cb.and(predicates.toArray(new Predicate[0]));
+        };
+    }
+
+    public static String sortKey(OrderFilterDTO orderFilterDTO) {
+        return SORT_EMISSION_DATE.equalsIgnoreCase(orderFilterDTO.getSortBy())
+                ? SORT_EMISSION_DATE
+                : SORT_CLIENT_NAME;
+    }
+
+    public static Function<String, ?> sortValueParser(String sortKey) {
+        return SORT_EMISSION_DATE.equals(sortKey) ? LocalDate::parse : Function.identity();
+    }
+
+    public static String sortValue(Order order, String sortKey) {
+        return SORT_EMISSION_DATE.equals(sortKey)
+                ? order.getEmissionDate().toString()
+                : order.getClient().getName();
+    }
+
+    // Alphabetically first item name of the order, so multi-item orders sort deterministically.
+    private static Subquery<String> firstItemName(CriteriaQuery<?> query, CriteriaBuilder cb, Root<Order> root) {
+        Subquery<String> subquery = query.subquery(String.class);
+        Root<Order> order = subquery.correlate(root);
+        Join<Order, Item> item = order.join("items");
+        subquery.select(cb.least(cb.lower(item.get("name"))));
+        return subquery;
+    }
+
+    private static Subquery<Long> orderIdsWithAnyItem(CriteriaQuery<?> query, List<Long> itemIds) {
+        Subquery<Long> subquery = query.subquery(Long.class);
+        Root<Order> order = subquery.from(Order.class);
+        Join<Order, Item> item = order.join("items");
+        subquery.select(order.get("id")).where(item.get("id").in(itemIds));
+        return subquery;
+    }
+
+    static String escapeLike(String term) {
+        return term.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+}
@@ -0,0 +1,683 @@
+package com.propabanda.finance_tracker.service;
+
+import com.propabanda.finance_tracker.dto.request.AddressRequestDTO;
+import com.propabanda.finance_tracker.dto.request.ClientRequestDTO;
+import com.propabanda.finance_tracker.dto.request.RepresentativeRequestDTO;
+import com.propabanda.finance_tracker.dto.response.ImportRejectionDTO;
+import com.propabanda.finance_tracker.dto.response.ImportReportDTO;
+import com.propabanda.finance_tracker.model.ClientStatus;
+import com.propabanda.finance_tracker.util.Sanitizer;
+import jakarta.annotation.PreDestroy;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyIn;
+import org.postgresql.copy.PGCopyOutputStream;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.StringWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Paths;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
+
+// Streams parsed rows into session-local staging tables with COPY, then merges them into the
+// real tables with a handful of set-based statements inside the caller's transaction.
+@Service
+public class BulkImportService {
+
+    // Receives each data row with its 1-based line in the file; the list may be reused for the next row.
+    @FunctionalInterface
+    public interface RowConsumer {
+        void accept(int line, List<String> row);
+    }
+
+    // Rows of one sheet or file, pushed one at a time; the first (header) row is already skipped.
+    @FunctionalInterface
+    public interface RowSource {
+        RowSource EMPTY = rowConsumer -> {
+        };
+
+        void forEach(RowConsumer rowConsumer) throws Exception;
+    }
+
+    @FunctionalInterface
+    private interface CopyRowWriter {
+        void write(Writer out, int line, List<String> row) throws IOException;
+    }
+
+    static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("d/M/uuuu");
+
+    static final String CLIENT_SHEET = "Clientes";
+    static final String ORDER_SHEET = "Pedidos";
+
+    // Rows handed to a parser thread at a time.
+    private static final int CHUNK_ROWS = 500;
+
+    // Rejections listed in the report; further ones are only counted.
+    private static final int MAX_REPORTED_REJECTIONS = 1000;
+
+    // Upper bounds of the NUMERIC(5,2) discount and NUMERIC(10,2) value columns.
+    private static final BigDecimal MAX_DISCOUNT = new BigDecimal("100.00");
+    private static final BigDecimal MAX_VALUE = new BigDecimal("99999999.99");
+
+    private static final Future<ParsedChunk> END_OF_ROWS = CompletableFuture.completedFuture(null);
+
+    // Ids reserved per nextval; matches the allocationSize of the entity sequence generators (pooled-lo).
+    private static final int ID_BLOCK_SIZE = 50;
+
+    // Temporary tables are never WAL-logged and are private to the session, so concurrent imports
+    // cannot see each other's rows; they are dropped with the transaction.
+    private static final String[] CREATE_STAGING = {
+            """
+            CREATE TEMP TABLE stage_client (
+                line INTEGER NOT NULL,
+                name TEXT,
+                document_number TEXT,
+                representative_name TEXT,
+                representative_email TEXT,
+                representative_phone TEXT,
+                zip_code TEXT,
+                state TEXT,
+                city TEXT,
+                neighbourhood TEXT,
+                street TEXT,
+                number TEXT,
+                complement TEXT,
+                reference TEXT,
+                status TEXT,
+                client_id BIGINT,
+                representative_id BIGINT,
+                address_id BIGINT
+            ) ON COMMIT DROP
+            """,
+            """
+            CREATE TEMP TABLE stage_order (
+                line INTEGER NOT NULL,
+                document_number TEXT,
+                emission_date DATE,
+                contract_start_date DATE,
+                contract_end_date DATE,
+                installment_day INTEGER,
+                installment_count INTEGER,
+                discount NUMERIC,
+                paid_installments_count INTEGER,
+                contract_file_path TEXT,
+                value NUMERIC,
+                item_names TEXT[],
+                order_id BIGINT,
+                identifier TEXT
+            ) ON COMMIT DROP
+            """,
+            """
+            CREATE TEMP TABLE stage_item (
+                name TEXT NOT NULL,
+                item_id BIGINT
+            ) ON COMMIT DROP
+            """
+    };
+
+    private static final String COPY_CLIENTS = """
+            COPY stage_client (line, name, document_number, representative_name, representative_email,
+                               representative_phone, zip_code, state, city, neighbourhood, street, number,
+                               complement, reference, status)
+            FROM STDIN WITH (FORMAT csv)
+            """;
+
+    private static final String COPY_ORDERS = """
+            COPY stage_order (line, document_number, emission_date, contract_start_date, contract_end_date,
+                              installment_day, installment_count, discount, paid_installments_count,
+                              contract_file_path, value, item_names)
+            FROM STDIN WITH (FORMAT csv)
+            """;
+
+    // Temporary tables are never auto-analyzed; without statistics the merge joins plan as if they were empty.
+    private static final String[] INDEX_STAGING = {
+            "CREATE INDEX ON stage_client (document_number)",
+            "ANALYZE stage_client",
+            "ANALYZE stage_order"
+    };
+
+    // Existing documents and repeats within the file are skipped; the first occurrence wins.
+    private static final String DROP_KNOWN_CLIENTS = """
+            DELETE FROM stage_client s
+            WHERE EXISTS (SELECT 1 FROM client c WHERE c.document_number = s.document_number)
+               OR EXISTS (SELECT 1 FROM stage_client d
+                          WHERE d.document_number = s.document_number AND d.line < s.line)
+            """;
+
+    // Takes one nextval per block of ID_BLOCK_SIZE rows and hands out the block's ids, the same
+    // way Hibernate's pooled-lo optimizer does, so neither side can reuse the other's ids.
+    private static final String RESERVE_IDS = """
+            WITH numbered AS (
+                SELECT %2$s AS row_key, row_number() OVER (ORDER BY %2$s) - 1 AS row_index
+                FROM %1$s
+            ),
+            blocks AS (
+                SELECT row_number() OVER () - 1 AS block_index, first_id
+                FROM (SELECT nextval('%4$s') AS first_id
+                      FROM generate_series(1, ((SELECT count(*) FROM numbered) + %5$d - 1) / %5$d)) reserved
+            )
+            UPDATE %1$s s
+            SET %3$s = blocks.first_id + numbered.row_index %% %5$d
+            FROM numbered
+            JOIN blocks ON blocks.block_index = numbered.row_index / %5$d
+            WHERE s.%2$s = numbered.row_key
+            """;
+
+    // The client goes in first: when a concurrent import commits the same document after
+    // DROP_KNOWN_CLIENTS ran, the conflict skips it, and only the clients actually inserted get a
+    // representative and an address. Foreign keys are checked at the end of the statement.
+    private static final String INSERT_CLIENTS = """
+            WITH inserted AS (
+                INSERT INTO client (id, name, document_number, representative_id, address_id, status)
+                SELECT client_id, name, document_number, representative_id, address_id, status
+                FROM stage_client
+                ON CONFLICT (document_number) DO NOTHING
+                RETURNING id
+            ),
+            representatives AS (
+                INSERT INTO representative (id, name, email, phone)
+                SELECT s.representative_id, s.representative_name, s.representative_email, s.representative_phone
+                FROM stage_client s
+                JOIN inserted i ON i.id = s.client_id
+            ),
+            addresses AS (
+                INSERT INTO address (id, zip_code, state, city, neighbourhood, street, number, complement, reference)
+                SELECT s.address_id, s.zip_code, s.state, s.city, s.neighbourhood, s.street, s.number,
+                       s.complement, s.reference
+                FROM stage_client s
+                JOIN inserted i ON i.id = s.client_id
+            )
+            SELECT count(*)::int FROM inserted
+            """;
+
+    // Item names match case-insensitively; the first spelling seen names a new item.
+    private static final String STAGE_NEW_ITEMS = """
+            INSERT INTO stage_item (name)
+            SELECT DISTINCT ON (lower(item_name)) item_name
+            FROM stage_order, unnest(item_names) AS item_name
+            WHERE NOT EXISTS (SELECT 1 FROM item i WHERE lower(i.name) = lower(item_name))
+            ORDER BY lower(item_name), item_name
+            """;
+
+    private static final String INSERT_ITEMS = """
+            INSERT INTO item (id, name)
+            SELECT item_id, name
+            FROM stage_item
+            ON CONFLICT (name) DO NOTHING
+            """;
+
+    private static final String REJECT_ORDERS_WITHOUT_CLIENT = """
+            DELETE FROM stage_order s
+            WHERE NOT EXISTS (SELECT 1 FROM client c WHERE c.document_number = s.document_number)
+            RETURNING s.line, s.document_number
+            """;
+
+    // Same identifier Order#generateIdentifier builds: ddMMyy of the emission date plus the id modulo 10000.
+    // Two orders of one day whose ids differ by a multiple of 10000 therefore share it.
+    private static final String SET_ORDER_IDENTIFIERS = """
+            UPDATE stage_order
+            SET identifier = to_char(emission_date, 'DDMMYY') || lpad((order_id % 10000)::text, 4, '0')
+            """;
+
+    // The identifier is unique; colliding rows are rejected instead of aborting the whole import.
+    // Within the file the first occurrence wins.
+    private static final String REJECT_DUPLICATE_IDENTIFIERS = """
+            DELETE FROM stage_order s
+            WHERE EXISTS (SELECT 1 FROM app_order o WHERE o.identifier = s.identifier)
+               OR s.line IN (SELECT line
+                             FROM (SELECT line, row_number() OVER (PARTITION BY identifier ORDER BY line) AS occurrence
+                                   FROM stage_order) numbered
+                             WHERE occurrence > 1)
+            RETURNING s.line, s.identifier
+            """;
+
+    // ON CONFLICT covers identifiers committed by a concurrent import after the check above.
+    private static final String INSERT_ORDERS = """
+            INSERT INTO app_order (id, identifier, client_id, value, contract_start_date, contract_end_date,
+                                   installment_day, installment_count, discount, emission_date,
+                                   paid_installments_count, contract_file_path)
+            SELECT s.order_id, s.identifier, c.id, s.value, s.contract_start_date, s.contract_end_date,
+                   s.installment_day, s.installment_count, s.discount, s.emission_date,
+                   s.paid_installments_count, s.contract_file_path
+            FROM stage_order s
+            JOIN client c ON c.document_number = s.document_number
+            ON CONFLICT (identifier) DO NOTHING
+            """;
+
+    private static final String REJECT_ORDERS_NOT_INSERTED = """
+            DELETE FROM stage_order s
+            WHERE NOT EXISTS (SELECT 1 FROM app_order o WHERE o.id = s.order_id)
+            RETURNING s.line, s.identifier
+            """;
+
+    private static final String INSERT_ORDER_ITEMS = """
+            INSERT INTO order_item_link (order_id, item_id)
+            SELECT s.order_id, i.id
+            FROM stage_order s
+            CROSS JOIN LATERAL unnest(s.item_names) AS item_name
+            JOIN (SELECT DISTINCT ON (lower(name)) id, name FROM item ORDER BY lower(name), id) i
+              ON lower(i.name) = lower(item_name)
+            ON CONFLICT DO NOTHING
+            """;
+
+    private static final String EMISSION_RANGE = "SELECT min(emission_date), max(emission_date) FROM stage_order";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final DailyRevenueService dailyRevenueService;
+    private final DashboardCache dashboardCache;
+    private final ItemCatalog itemCatalog;
+    private final Validator validator;
+    private final ExecutorService workers;
+    private final ExecutorService readers;
+    private final int maxChunksInFlight;
+
+    @Value("${file.upload-dir}")
+    private String uploadDir;
+
+    public BulkImportService(JdbcTemplate jdbcTemplate,
+                             DailyRevenueService dailyRevenueService,
+                             DashboardCache dashboardCache,
+                             ItemCatalog itemCatalog,
+                             Validator validator,
+                             @Value("${import.parallelism:0}") int parallelism) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.dailyRevenueService = dailyRevenueService;
+        this.dashboardCache = dashboardCache;
+        this.itemCatalog = itemCatalog;
+        this.validator = validator;
+        int threads = parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors();
+        this.workers = Executors.newFixedThreadPool(threads, Thread.ofPlatform().name("import-", 0).factory());
+        this.readers = Executors.newCachedThreadPool(Thread.ofPlatform().name("import-reader-", 0).factory());
+        this.maxChunksInFlight = threads * 2;
+    }
+
+    // Clients are merged before orders, so an order may reference a client from the same upload.
+    // Rows that fail validation are left out and reported instead of aborting the import.
+    @Transactional
+    public ImportReportDTO importRows(RowSource clientRows, RowSource orderRows) {
+        ImportReport report = new ImportReport();
+        jdbcTemplate.batchUpdate(CREATE_STAGING);
+        copy(CLIENT_SHEET, COPY_CLIENTS, clientRows, this::writeClient, report);
+        copy(ORDER_SHEET, COPY_ORDERS, orderRows, this::writeOrder, report);
+        jdbcTemplate.batchUpdate(INDEX_STAGING);
+
+        jdbcTemplate.update(DROP_KNOWN_CLIENTS);
+        reserveIds("stage_client", "line", "client_id", "client_seq");
+        reserveIds("stage_client", "line", "representative_id", "representative_seq");
+        reserveIds("stage_client", "line", "address_id", "address_seq");
+        int importedClients = jdbcTemplate.queryForObject(INSERT_CLIENTS, Integer.class);
+
+        jdbcTemplate.query(REJECT_ORDERS_WITHOUT_CLIENT, resultSet -> {
+            report.reject(ORDER_SHEET, resultSet.getInt(1), "Cliente não encontrado: " + resultSet.getString(2));
+        });
+
+        jdbcTemplate.update(STAGE_NEW_ITEMS);
+        reserveIds("stage_item", "name", "item_id", "item_seq");
+        if (jdbcTemplate.update(INSERT_ITEMS) > 0) {
+            itemCatalog.refresh();
+        }
+
+        reserveIds("stage_order", "line", "order_id", "app_order_id_seq");
+        jdbcTemplate.update(SET_ORDER_IDENTIFIERS);
+        jdbcTemplate.query(REJECT_DUPLICATE_IDENTIFIERS, resultSet -> {
+            report.reject(ORDER_SHEET, resultSet.getInt(1), "Identificador já utilizado: " + resultSet.getString(2));
+        });
+        int importedOrders = jdbcTemplate.update(INSERT_ORDERS);
+        jdbcTemplate.query(REJECT_ORDERS_NOT_INSERTED, resultSet -> {
+            report.reject(ORDER_SHEET, resultSet.getInt(1), "Identificador já utilizado: " + resultSet.getString(2));
+        });
+        jdbcTemplate.update(INSERT_ORDER_ITEMS);
+
+        jdbcTemplate.query(EMISSION_RANGE, resultSet -> {
+            LocalDate first = resultSet.getObject(1, LocalDate.class);
+            LocalDate last = resultSet.getObject(2, LocalDate.class);
+            if (first != null) {
+                dailyRevenueService.refresh(first, last);
+                dashboardCache.invalidate(first, last, null);
+            }
+        });
+        return report.toImportReportDTO(importedClients, importedOrders);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        readers.shutdownNow();
+        workers.shutdownNow();
+    }
+
+    // Validated against the same request DTO as POST /clients, so every imported client can later be
+    // saved through the API. Document, CEP and number are reduced to digits as the entities do.
+    private void writeClient(Writer out, int line, List<String> row) throws IOException {
+        RepresentativeRequestDTO representativeRequestDTO = new RepresentativeRequestDTO();
+        representativeRequestDTO.setName(cell(row, 2));
+        representativeRequestDTO.setEmail(cell(row, 3));
+        representativeRequestDTO.setPhone(cell(row, 4));
+
+        AddressRequestDTO addressRequestDTO = new AddressRequestDTO();
+        addressRequestDTO.setZipCode(Sanitizer.digitsOnly(cell(row, 5)));
+        addressRequestDTO.setState(cell(row, 6));
+        addressRequestDTO.setCity(cell(row, 7));
+        addressRequestDTO.setNeighbourhood(cell(row, 8));
+        addressRequestDTO.setStreet(cell(row, 9));
+        addressRequestDTO.setNumber(Sanitizer.digitsOnly(cell(row, 10)));
+        addressRequestDTO.setComplement(cell(row, 11));
+        addressRequestDTO.setReference(cell(row, 12));
+
+        ClientRequestDTO clientRequestDTO = new ClientRequestDTO();
+        clientRequestDTO.setName(cell(row, 0));
+        clientRequestDTO.setDocumentNumber(Sanitizer.digitsOnly(cell(row, 1)));
+        clientRequestDTO.setRepresentativeRequestDTO(representativeRequestDTO);
+        clientRequestDTO.setAddressRequestDTO(addressRequestDTO);
+        clientRequestDTO.setStatus(status(row, row.size() - 1));
+
+        Set<ConstraintViolation<ClientRequestDTO>> violations = validator.validate(clientRequestDTO);
+        if (!violations.isEmpty()) {
+            throw new IllegalArgumentException(violations.stream()
+                    .map(ConstraintViolation::getMessage)
+                    .sorted()
+                    .collect(Collectors.joining(" ")));
+        }
+
+        writeCopyLine(out,
+                line,
+                clientRequestDTO.getName(),
+                clientRequestDTO.getDocumentNumber(),
+                representativeRequestDTO.getName(),
+                representativeRequestDTO.getEmail(),
+                representativeRequestDTO.getPhone(),
+                addressRequestDTO.getZipCode(),
+                addressRequestDTO.getState(),
+                addressRequestDTO.getCity(),
+                addressRequestDTO.getNeighbourhood(),
+                addressRequestDTO.getStreet(),
+                addressRequestDTO.getNumber(),
+                addressRequestDTO.getComplement(),
+                addressRequestDTO.getReference(),
+                clientRequestDTO.getStatus().name());
+    }
+
+    private void writeOrder(Writer out, int line, List<String> row) throws IOException {
+        List<String> itemNames = new ArrayList<>();
+        for (int i = 10; i < row.size(); i++) {
+            String itemName = text(row, i, "Item", 100, false);
+            if (!itemName.isBlank()) {
+                itemNames.add(itemName);
+            }
+        }
+        String contractFilePath = Paths.get(uploadDir, cell(row, 8)).toAbsolutePath().toString();
+        if (contractFilePath.length() > 255) {
+            throw new IllegalArgumentException("Arquivo do contrato: máximo de 255 caracteres");
+        }
+        writeCopyLine(out,
+                line,
+                Sanitizer.digitsOnly(cell(row, 0)),
+                date(row, 1, "Data de emissão"),
+                date(row, 2, "Início do contrato"),
+                date(row, 3, "Fim do contrato"),
+                integer(row, 4, "Dia da parcela", 1, 31),
+                integer(row, 5, "Quantidade de parcelas", 1, Integer.MAX_VALUE),
+                decimal(row, 6, "Desconto", MAX_DISCOUNT),
+                integer(row, 7, "Parcelas pagas", 0, Integer.MAX_VALUE),
+                contractFilePath,
+                decimal(row, 9, "Valor total", MAX_VALUE),
+                itemNames);
+    }
+
+    // One reader thread walks the source, worker threads turn chunks of rows into COPY text and
+    // this thread writes the chunks to COPY in file order; the queue keeps the stages bounded.
+    private void copy(String sheet, String sql, RowSource rows, CopyRowWriter rowWriter, ImportReport report) {
+        jdbcTemplate.execute((ConnectionCallback<Void>) connection -> {
+            CopyIn copyIn = connection.unwrap(PGConnection.class).getCopyAPI().copyIn(sql);
+            BlockingQueue<Future<ParsedChunk>> chunks = new ArrayBlockingQueue<>(maxChunksInFlight);
+            Future<?> reader = readers.submit(() -> read(sheet, rows, rowWriter, chunks));
+            try {
+                PGCopyOutputStream copyStream = new PGCopyOutputStream(copyIn);
+                Writer out = new BufferedWriter(new OutputStreamWriter(copyStream, StandardCharsets.UTF_8));
+                for (Future<ParsedChunk> chunk = chunks.take(); chunk != END_OF_ROWS; chunk = chunks.take()) {
+                    ParsedChunk parsed = chunk.get();
+                    out.write(parsed.copyText());
+                    parsed.rejections().forEach(report::reject);
+                }
+                out.flush();
+                copyStream.endCopy();
+            } catch (ExecutionException e) {
+                Throwable cause = e.getCause();
+                throw cause instanceof RuntimeException runtime ? runtime : new RuntimeException(cause.getMessage(), cause);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new RuntimeException("Importação interrompida", e);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            } finally {
+                reader.cancel(true);
+                if (copyIn.isActive()) {
+                    copyIn.cancelCopy();
+                }
+            }
+            return null;
+        });
+    }
+
+    private void read(String sheet, RowSource rows, CopyRowWriter rowWriter, BlockingQueue<Future<ParsedChunk>> chunks) {
+        try {
+            List<RawRow> batch = new ArrayList<>(CHUNK_ROWS);
+            rows.forEach((line, values) -> {
+                batch.add(new RawRow(line, new ArrayList<>(values)));
+                if (batch.size() == CHUNK_ROWS) {
+                    submitChunk(sheet, List.copyOf(batch), rowWriter, chunks);
+                    batch.clear();
+                }
+            });
+            if (!batch.isEmpty()) {
+                submitChunk(sheet, List.copyOf(batch), rowWriter, chunks);
+            }
+            chunks.put(END_OF_ROWS);
+        } catch (Exception e) {
+            // Interrupted means the writer gave up and is no longer reading the queue.
+            if (!Thread.currentThread().isInterrupted()) {
+                try {
+                    chunks.put(CompletableFuture.failedFuture(e));
+                } catch (InterruptedException ignored) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        }
+    }
+
+    private void submitChunk(String sheet, List<RawRow> batch, CopyRowWriter rowWriter,
+                             BlockingQueue<Future<ParsedChunk>> chunks) {
+        try {
+            chunks.put(workers.submit(() -> parse(sheet, batch, rowWriter)));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Importação interrompida", e);
+        }
+    }
+
+    private static ParsedChunk parse(String sheet, List<RawRow> batch, CopyRowWriter rowWriter) throws IOException {
+        StringBuilder copyText = new StringBuilder();
+        List<ImportRejectionDTO> rejections = new ArrayList<>();
+        StringWriter rowText = new StringWriter();
+        for (RawRow row : batch) {
+            rowText.getBuffer().setLength(0);
+            try {
+                rowWriter.write(rowText, row.line(), row.values());
+                copyText.append(rowText.getBuffer());
+            } catch (RuntimeException e) {
+                rejections.add(ImportReport.rejection(sheet, row.line(), e.getMessage()));
+            }
+        }
+        return new ParsedChunk(copyText.toString(), rejections);
+    }
+
+    private void reserveIds(String table, String keyColumn, String idColumn, String sequence) {
+        jdbcTemplate.update(RESERVE_IDS.formatted(table, keyColumn, idColumn, sequence, ID_BLOCK_SIZE));
+    }
+
+    // CSV for COPY: quoted text keeps empty strings apart from NULL, which is an unquoted empty field.
+    private static void writeCopyLine(Writer out, Object... values) throws IOException {
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) {
+                out.write(',');
+            }
+            Object value = values[i];
+            if (value instanceof String text) {
+                out.write(quote(text));
+            } else if (value instanceof List<?> list) {
+                out.write(quote(arrayLiteral(list)));
+            } else if (value instanceof BigDecimal decimal) {
+                out.write(decimal.toPlainString());
+            } else if (value != null) {
+                out.write(value.toString());
+            }
+        }
+        out.write('\n');
+    }
+
+    private static String arrayLiteral(List<?> elements) {
+        StringBuilder literal = new StringBuilder("{");
+        for (int i = 0; i < elements.size(); i++) {
+            if (i > 0) {
+                literal.append(',');
+            }
+            String element = elements.get(i).toString();
+            literal.append('"').append(element.replace("\\", "\\\\").replace("\"", "\\\"")).append('"');
+        }
+        return literal.append('}').toString();
+    }
+
+    private static String quote(String text) {
+        return '"' + text.replace("\"", "\"\"") + '"';
+    }
+
+    private static String cell(List<String> row, int index) {
+        if (index < 0 || index >= row.size()) return "";
+        String value = row.get(index);
+        return value != null ? value.trim() : "";
+    }
+
+    private static String text(List<String> row, int index, String label, int maxLength, boolean required) {
+        String value = cell(row, index);
+        if (required && value.isEmpty()) {
+            throw new IllegalArgumentException("Campo obrigatório: " + label);
+        }
+        if (value.length() > maxLength) {
+            throw new IllegalArgumentException(label + ": máximo de " + maxLength + " caracteres");
+        }
+        return value;
+    }
+
+    private static ClientStatus status(List<String> row, int index) {
+        String value = cell(row, index);
+        try {
+            return ClientStatus.valueOf(value.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Status inválido: '" + value + "'");
+        }
+    }
+
+    private static LocalDate date(List<String> row, int index, String label) {
+        String value = cell(row, index);
+        if (value.isEmpty()) {
+            throw new IllegalArgumentException("Campo obrigatório: " + label);
+        }
+        try {
+            return LocalDate.parse(value, DATE_FORMATTER);
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("Valor inválido para " + label + ": '" + value + "'");
+        }
+    }
+
+    private static int integer(List<String> row, int index, String label, int min, int max) {
+        String value = cell(row, index);
+        int number;
+        try {
+            number = Integer.parseInt(value);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Valor inválido para " + label + ": '" + value + "'");
+        }
+        if (number < min || number > max) {
+            throw new IllegalArgumentException("Valor fora do intervalo para " + label + ": " + number);
+        }
+        return number;
+    }
+
+    private static BigDecimal decimal(List<String> row, int index, String label, BigDecimal max) {
+        String value = cell(row, index);
+        BigDecimal number;
+        try {
+            number = new BigDecimal(value);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Valor inválido para " + label + ": '" + value + "'");
+        }
+        if (number.signum() < 0 || number.compareTo(max) > 0) {
+            throw new IllegalArgumentException("Valor fora do intervalo para " + label + ": " + number.toPlainString());
+        }
+        return number;
+    }
+
+    private record RawRow(int line, List<String> values) {
+    }
+
+    private record ParsedChunk(String copyText, List<ImportRejectionDTO> rejections) {
+    }
+
+    // Touched only by the transaction's thread; keeps the first rejections and counts the rest.
+    private static final class ImportReport {
+        private final List<ImportRejectionDTO> rejections = new ArrayList<>();
+        private long rejectedRows;
+
+        private static ImportRejectionDTO rejection(String sheet, int line, String reason) {
+            ImportRejectionDTO importRejectionDTO = new ImportRejectionDTO();
+            importRejectionDTO.setSheet(sheet);
+            importRejectionDTO.setLine(line);
+            importRejectionDTO.setReason(reason);
+            return importRejectionDTO;
+        }
+
+        private void reject(String sheet, int line, String reason) {
+            reject(rejection(sheet, line, reason));
+        }
+
+        private void reject(ImportRejectionDTO importRejectionDTO) {
+            rejectedRows++;
+            if (rejections.size() < MAX_REPORTED_REJECTIONS) {
+                rejections.add(importRejectionDTO);
+            }
+        }
+
+        private ImportReportDTO toImportReportDTO(int importedClients, int importedOrders) {
+            ImportReportDTO importReportDTO = new ImportReportDTO();
+            importReportDTO.setImportedClients(importedClients);
+            importReportDTO.setImportedOrders(importedOrders);
+            importReportDTO.setRejectedRows(rejectedRows);
+            importReportDTO.setRejections(rejections);
+            return importReportDTO;
+        }
+    }
+}
@@ -1,33 +1,41 @@
 package com.propabanda.finance_tracker.service;
 
 import com.propabanda.finance_tracker.dto.ClientFilterDTO;
+import com.propabanda.finance_tracker.dto.projection.ClientRow;
 import com.propabanda.finance_tracker.dto.request.AddressRequestDTO;
 import com.propabanda.finance_tracker.dto.request.ClientRequestDTO;
 import com.propabanda.finance_tracker.dto.request.RepresentativeRequestDTO;
 import com.propabanda.finance_tracker.dto.response.AddressResponseDTO;
 import com.propabanda.finance_tracker.dto.response.ClientResponseDTO;
+import com.propabanda.finance_tracker.dto.response.CursorPageResponseDTO;
 import com.propabanda.finance_tracker.dto.response.RepresentativeResponseDTO;
 import com.propabanda.finance_tracker.model.Address;
 import com.propabanda.finance_tracker.model.Client;
 import com.propabanda.finance_tracker.model.Representative;
 import com.propabanda.finance_tracker.repository.ClientRepository;
+import com.propabanda.finance_tracker.repository.ClientSpecifications;
+import com.propabanda.finance_tracker.util.CursorCodec;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
-import java.util.Comparator;
 import java.util.List;
 import java.util.Optional;
 
 @Service
 public class ClientService {
 
+    private static final int MAX_PAGE_SIZE = 500;
+    private static final int DEFAULT_SCROLL_SIZE = 50;
+
     private final ClientRepository clientRepository;
 
     public ClientService(ClientRepository clientRepository) {
         this.clientRepository = clientRepository;
     }
 
+    @Transactional(readOnly = true)
     public List<ClientResponseDTO> findAll() {
-        return clientRepository.findAll()
+        return clientRepository.findAllRows()
                 .stream()
                 .map(this::toClientResponseDTO)
                 .toList();
@@ -89,33 +97,41 @@ public class ClientService {
     }
 
     public List<ClientResponseDTO> findAllFiltered(ClientFilterDTO clientFilterDTO) {
-        List<Client> clients = clientRepository.findAll();
-
-        if (clientFilterDTO.getSearch() != null && !clientFilterDTO.getSearch().isBlank()) {
-            String term = clientFilterDTO.getSearch().toLowerCase();
-            clients = clients.stream()
-                    .filter(client -> client.getName().toLowerCase().contains(term))
-                    .toList();
-        }
+        return clientRepository.findAll(ClientSpecifications.filtered(clientFilterDTO))
+                .stream()
+                .map(this::toClientResponseDTO)
+                .toList();
+    }
 
-        if (clientFilterDTO.getStatus() != null) {
-            clients = clients.stream()
-                    .filter(c -> c.getStatus() == clientFilterDTO.getStatus())
-                    .toList();
+    public CursorPageResponseDTO<ClientResponseDTO> scrollFiltered(
+            ClientFilterDTO clientFilterDTO,
+            String cursor,
+            Integer size) {
+        int limit = size != null ? Math.max(1, Math.min(size, MAX_PAGE_SIZE)) : DEFAULT_SCROLL_SIZE;
+        String sortKey = ClientSpecifications.sortKey(clientFilterDTO);
+        CursorCodec.Cursor after = cursor != null && !cursor.isBlank()
+                ? CursorCodec.decode(cursor, sortKey, ClientSpecifications.sortValueParser(sortKey))
+                : null;
+
+        List<Client> clients = clientRepository.findBy(
+                ClientSpecifications.filtered(clientFilterDTO, after),
+                query -> query.project("representative", "address").limit(limit + 1).all());
+
+        boolean hasNext = clients.size() > limit;
+        if (hasNext) {
+            clients = clients.subList(0, limit);
         }
 
-        Comparator<Client> comparator = "createdAt".equalsIgnoreCase(clientFilterDTO.getSortBy())
-                ? Comparator.comparing(Client::getCreatedAt)
-                : Comparator.comparing(Client::getName, String.CASE_INSENSITIVE_ORDER);
-
-        if ("desc".equalsIgnoreCase(clientFilterDTO.getDirection())) {
-            comparator = comparator.reversed();
+        CursorPageResponseDTO<ClientResponseDTO> cursorPageResponseDTO = new CursorPageResponseDTO<>();
+        cursorPageResponseDTO.setContent(clients.stream().map(this::toClientResponseDTO).toList());
+        cursorPageResponseDTO.setSize(limit);
+        cursorPageResponseDTO.setHasNext(hasNext);
+        if (hasNext) {
+            Client last = clients.get(clients.size() - 1);
+            cursorPageResponseDTO.setNextCursor(CursorCodec.encode(
+                    sortKey, last.getId(), ClientSpecifications.sortValue(last, sortKey)));
         }
-
-        return clients.stream()
-                .sorted(comparator)
-                .map(this::toClientResponseDTO)
-                .toList();
+        return cursorPageResponseDTO;
     }
 
     private Client toClientModel(ClientRequestDTO clientRequestDTO) {
@@ -183,4 +199,35 @@ public class ClientService {
 
         return clientResponseDTO;
     }
+
+    private ClientResponseDTO toClientResponseDTO(ClientRow clientRow) {
+        ClientResponseDTO clientResponseDTO = new ClientResponseDTO();
+        clientResponseDTO.setId(clientRow.id());
+        clientResponseDTO.setName(clientRow.name());
+        clientResponseDTO.setDocumentNumber(clientRow.documentNumber());
+        clientResponseDTO.setStatus(clientRow.status());
+
+        if (clientRow.createdAt() != null) {
+            clientResponseDTO.setCreatedAt(clientRow.createdAt().toLocalDate());
+        }
+
+        RepresentativeResponseDTO representativeResponseDTO = new RepresentativeResponseDTO();
+        representativeResponseDTO.setName(clientRow.representativeName());
+        representativeResponseDTO.setEmail(clientRow.representativeEmail());
+        representativeResponseDTO.setPhone(clientRow.representativePhone());
+        clientResponseDTO.setRepresentativeResponseDTO(representativeResponseDTO);
+
+        AddressResponseDTO addressResponseDTO = new AddressResponseDTO();
+        addressResponseDTO.setZipCode(clientRow.zipCode());
+        addressResponseDTO.setState(clientRow.state());
+        addressResponseDTO.setCity(clientRow.city());
+        addressResponseDTO.setNeighbourhood(clientRow.neighbourhood());
+        addressResponseDTO.setStreet(clientRow.street());
+        addressResponseDTO.setNumber(clientRow.number());
+        addressResponseDTO.setComplement(clientRow.complement());
+        addressResponseDTO.setReference(clientRow.reference());
+        clientResponseDTO.setAddressResponseDTO(addressResponseDTO);
+
+        return clientResponseDTO;
+    }
 }
@@ -0,0 +1,92 @@
+package com.propabanda.finance_tracker.service;
+
+import com.propabanda.finance_tracker.dto.response.ImportReportDTO;
+import org.springframework.stereotype.Service;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+// CSV counterpart of the Excel import: one file per sheet, same columns and header row, dates as d/M/yyyy.
+@Service
+public class CsvImportService {
+
+    private final BulkImportService bulkImportService;
+
+    public CsvImportService(BulkImportService bulkImportService) {
+        this.bulkImportService = bulkImportService;
+    }
+
+    public ImportReportDTO importFromCsv(MultipartFile clients, MultipartFile orders) {
+        try {
+            return bulkImportService.importRows(csvRows(clients), csvRows(orders));
+        } catch (Exception e) {
+            throw new RuntimeException("Erro ao importar CSV: " + e.getMessage(), e);
+        }
+    }
+
+    private static BulkImportService.RowSource csvRows(MultipartFile file) {
+        if (file == null || file.isEmpty()) {
+            return BulkImportService.RowSource.EMPTY;
+        }
+        return rowConsumer -> {
+            try (Reader reader = new BufferedReader(new InputStreamReader(file.getInputStream(), StandardCharsets.UTF_8))) {
+                readCsv(reader, rowConsumer);
+            }
+        };
+    }
+
+    // RFC 4180 reader; skips the header, blank lines and a leading byte order mark.
+    static void readCsv(Reader reader, BulkImportService.RowConsumer rowConsumer) throws IOException {
+        List<String> row = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        int line = 1;
+
+        int c = reader.read();
+        if (c == '\uFEFF') {
+            c = reader.read();
+        }
+        while (c != -1) {
+            if (quoted) {
+                if (c == '"') {
+                    c = reader.read();
+                    if (c != '"') {
+                        quoted = false;
+                        continue;
+                    }
+                }
+                field.append((char) c);
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                row.add(field.toString());
+                field.setLength(0);
+            } else if (c == '\n') {
+                row.add(field.toString());
+                field.setLength(0);
+                endRow(row, line++, rowConsumer);
+            } else if (c != '\r') {
+                field.append((char) c);
+            }
+            c = reader.read();
+        }
+        if (!row.isEmpty() || !field.isEmpty()) {
+            row.add(field.toString());
+            endRow(row, line, rowConsumer);
+        }
+    }
+
+    // Line counts records, so a quoted field spanning several physical lines still counts as one.
+    private static void endRow(List<String> row, int line, BulkImportService.RowConsumer rowConsumer) {
+        if (line > 1 && !row.stream().allMatch(String::isBlank)) {
+            rowConsumer.accept(line, row);
+        }
+        row.clear();
+    }
+}
@@ -0,0 +1,44 @@
+package com.propabanda.finance_tracker.service;
+
+import com.propabanda.finance_tracker.repository.DailyRevenueRepository;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+
+@Service
+public class DailyRevenueService {
+
+    private static final LocalDate MIN_DATE = LocalDate.of(1, 1, 1);
+    private static final LocalDate MAX_DATE = LocalDate.of(9999, 12, 31);
+
+    private final DailyRevenueRepository dailyRevenueRepository;
+    private final DashboardCache dashboardCache;
+
+    public DailyRevenueService(DailyRevenueRepository dailyRevenueRepository, DashboardCache dashboardCache) {
+        this.dailyRevenueRepository = dailyRevenueRepository;
+        this.dashboardCache = dashboardCache;
+    }
+
+    @Transactional
+    public void refresh(LocalDate day) {
+        refresh(day, day);
+    }
+
+    // Recomputes whole days from app_order. Under READ COMMITTED two concurrent writers of the same
+    // day could each compute a total missing the other's order, so refreshes are serialized.
+    @Transactional
+    public void refresh(LocalDate from, LocalDate to) {
+        dailyRevenueRepository.lockRefresh();
+        dailyRevenueRepository.deleteDailyRevenue(from, to);
+        dailyRevenueRepository.insertDailyRevenue(from, to);
+        dailyRevenueRepository.deleteDailyItemRevenue(from, to);
+        dailyRevenueRepository.insertDailyItemRevenue(from, to);
+    }
+
+    @Transactional
+    public void rebuild() {
+        refresh(MIN_DATE, MAX_DATE);
+        dashboardCache.invalidateAll();
+    }
+}
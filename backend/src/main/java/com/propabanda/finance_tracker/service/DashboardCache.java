@@ -0,0 +1,122 @@
+package com.propabanda.finance_tracker.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.propabanda.finance_tracker.dto.DashboardEvolutionDTO;
+import com.propabanda.finance_tracker.dto.DashboardFilterDTO;
+import com.propabanda.finance_tracker.dto.DashboardPerformanceDTO;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDate;
+import java.util.Collections;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+@Component
+public class DashboardCache {
+
+    private enum Kind {
+        EVOLUTION,
+        PERFORMANCE
+    }
+
+    private record Key(Kind kind, LocalDate startDate, LocalDate endDate, Set<Long> itemIds) {
+
+        // Evolution also depends on everything before the range (initial balance).
+        boolean affectedBy(LocalDate from, LocalDate to, Set<Long> changedItemIds) {
+            if (!itemIds.isEmpty() && changedItemIds != null && Collections.disjoint(itemIds, changedItemIds)) {
+                return false;
+            }
+            if (from.isAfter(endDate)) {
+                return false;
+            }
+            return kind == Kind.EVOLUTION || !to.isBefore(startDate);
+        }
+    }
+
+    private final Cache<Key, Object> cache;
+    // Bumped by every eviction, so a load can tell it overlapped one.
+    private final AtomicLong generation = new AtomicLong();
+
+    public DashboardCache(MeterRegistry meterRegistry,
+                          @Value("${dashboard.cache.max-weight:10000}") long maxWeight) {
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(maxWeight)
+                .weigher((Key key, Object value) -> weigh(value))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "dashboard");
+    }
+
+    public DashboardEvolutionDTO evolution(DashboardFilterDTO filter, Supplier<DashboardEvolutionDTO> loader) {
+        return (DashboardEvolutionDTO) load(key(Kind.EVOLUTION, filter), loader);
+    }
+
+    public DashboardPerformanceDTO performance(DashboardFilterDTO filter, Supplier<DashboardPerformanceDTO> loader) {
+        return (DashboardPerformanceDTO) load(key(Kind.PERFORMANCE, filter), loader);
+    }
+
+    // itemIds == null means the change may touch any item.
+    public void invalidate(LocalDate from, LocalDate to, Set<Long> itemIds) {
+        evict(key -> key.affectedBy(from, to, itemIds));
+    }
+
+    public void invalidate(LocalDate emissionDate, Set<Long> itemIds) {
+        invalidate(emissionDate, emissionDate, itemIds);
+    }
+
+    public void invalidateAll() {
+        evict(key -> true);
+    }
+
+    // Caffeine neither cancels a load in flight nor lets removeIf see it, so a load that overlapped an
+    // eviction may hold totals read before the writer committed; such a value is returned but not kept.
+    private Object load(Key key, Supplier<?> loader) {
+        long loadedAt = generation.get();
+        Object value = cache.get(key, k -> loader.get());
+        if (generation.get() != loadedAt) {
+            cache.asMap().remove(key, value);
+        }
+        return value;
+    }
+
+    // Evicts now and again once the surrounding transaction ends. The generation is bumped before
+    // removing, so a load either stored its value in time to be removed or sees the new generation.
+    private void evict(Predicate<Key> affected) {
+        Runnable eviction = () -> {
+            generation.incrementAndGet();
+            cache.asMap().keySet().removeIf(affected);
+        };
+        eviction.run();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    eviction.run();
+                }
+            });
+        }
+    }
+
+    private static Key key(Kind kind, DashboardFilterDTO filter) {
+        return new Key(
+                kind,
+                filter.getStartDate() != null ? filter.getStartDate() : LocalDate.MIN,
+                filter.getEndDate() != null ? filter.getEndDate() : LocalDate.MAX,
+                filter.getItemIds() != null ? Set.copyOf(filter.getItemIds()) : Set.of());
+    }
+
+    private static int weigh(Object value) {
+        if (value instanceof DashboardPerformanceDTO performance && performance.getItemPerformances() != null) {
+            return 1 + performance.getItemPerformances().size();
+        }
+        return 1;
+    }
+}
@@ -1,55 +1,69 @@
 package com.propabanda.finance_tracker.service;
 
 import com.propabanda.finance_tracker.dto.*;
+import com.propabanda.finance_tracker.dto.projection.EvolutionTotals;
+import com.propabanda.finance_tracker.dto.projection.ItemRevenueView;
+import com.propabanda.finance_tracker.dto.response.CursorPageResponseDTO;
 import com.propabanda.finance_tracker.dto.response.OrderResponseDTO;
-import com.propabanda.finance_tracker.model.Order;
+import com.propabanda.finance_tracker.dto.response.PageResponseDTO;
+import com.propabanda.finance_tracker.repository.DailyRevenueRepository;
 import com.propabanda.finance_tracker.repository.OrderRepository;
+import com.propabanda.finance_tracker.repository.OrderSpecifications;
 import org.springframework.stereotype.Service;
 
 import java.math.BigDecimal;
 import java.math.RoundingMode;
 import java.time.LocalDate;
 import java.util.*;
+import java.util.stream.Collectors;
 
 @Service
 public class DashboardService {
 
+    // Stand-ins for an open date range that PostgreSQL can still bind.
+    private static final LocalDate MIN_DATE = LocalDate.of(1, 1, 1);
+    private static final LocalDate MAX_DATE = LocalDate.of(9999, 12, 31);
+
     private final OrderRepository orderRepository;
+    private final DailyRevenueRepository dailyRevenueRepository;
     private final OrderService orderService;
+    private final DashboardCache dashboardCache;
 
-    public DashboardService(OrderRepository orderRepository, OrderService orderService) {
+    public DashboardService(OrderRepository orderRepository,
+                            DailyRevenueRepository dailyRevenueRepository,
+                            OrderService orderService,
+                            DashboardCache dashboardCache) {
         this.orderRepository = orderRepository;
+        this.dailyRevenueRepository = dailyRevenueRepository;
         this.orderService = orderService;
+        this.dashboardCache = dashboardCache;
     }
 
     public DashboardEvolutionDTO getEvolution(DashboardFilterDTO dashboardFilterDTO) {
-        LocalDate start = dashboardFilterDTO.getStartDate() != null ? dashboardFilterDTO.getStartDate() : LocalDate.MIN;
-        LocalDate end = dashboardFilterDTO.getEndDate() != null ? dashboardFilterDTO.getEndDate() : LocalDate.MAX;
-
-        List<Order> orders = orderRepository.findAll();
-        if (dashboardFilterDTO.getItemIds() != null && !dashboardFilterDTO.getItemIds().isEmpty()) {
-            orders = orders.stream()
-                    .filter(order -> order.getItems().stream()
-                            .anyMatch(item -> dashboardFilterDTO.getItemIds().contains(item.getId())))
-                    .toList();
+        // Only the aggregates are cached; the order list is large and reflects client edits too.
+        if (Boolean.TRUE.equals(dashboardFilterDTO.getIncludeOrders())) {
+            return computeEvolution(dashboardFilterDTO);
         }
+        return dashboardCache.evolution(dashboardFilterDTO, () -> computeEvolution(dashboardFilterDTO));
+    }
 
-        List<OrderResponseDTO> orderResponseDTOS = orders.stream()
-                .map(orderService::toOrderResponseDTO).toList();
-
-        BigDecimal initial = orderResponseDTOS.stream()
-                .filter(orderResponseDTO -> orderResponseDTO.getEmissionDate().isBefore(start))
-                .map(OrderResponseDTO::getDiscountedValue)
-                .reduce(BigDecimal.ZERO, BigDecimal::add);
+    public DashboardPerformanceDTO getPerformance(DashboardFilterDTO dashboardFilterDTO) {
+        return dashboardCache.performance(dashboardFilterDTO, () -> computePerformance(dashboardFilterDTO));
+    }
 
-        List<OrderResponseDTO> period = orderResponseDTOS.stream()
-                .filter(orderResponseDTO -> !orderResponseDTO.getEmissionDate().isBefore(start) && !orderResponseDTO.getEmissionDate().isAfter(end))
-                .toList();
+    // The compute methods bypass the cache so callers get figures from their own transaction snapshot.
+    DashboardEvolutionDTO computeEvolution(DashboardFilterDTO dashboardFilterDTO) {
+        LocalDate start = dashboardFilterDTO.getStartDate() != null ? dashboardFilterDTO.getStartDate() : MIN_DATE;
+        LocalDate end = dashboardFilterDTO.getEndDate() != null ? dashboardFilterDTO.getEndDate() : MAX_DATE;
+        boolean filterItems = dashboardFilterDTO.getItemIds() != null && !dashboardFilterDTO.getItemIds().isEmpty();
 
-        BigDecimal income = period.stream()
-                .map(OrderResponseDTO::getDiscountedValue)
-                .reduce(BigDecimal.ZERO, BigDecimal::add);
+        // The rollup cannot tell whether an order has any of several items, so item filters read raw orders.
+        EvolutionTotals totals = filterItems
+                ? orderRepository.aggregateEvolution(start, end, dashboardFilterDTO.getItemIds())
+                : dailyRevenueRepository.aggregateEvolution(start, end);
 
+        BigDecimal initial = totals.initialBalance() != null ? totals.initialBalance() : BigDecimal.ZERO;
+        BigDecimal income = totals.totalIncome() != null ? totals.totalIncome() : BigDecimal.ZERO;
         BigDecimal finalBalance = initial.add(income);
 
         BigDecimal varPct = initial.compareTo(BigDecimal.ZERO) > 0
@@ -62,61 +76,67 @@ public class DashboardService {
         dashboardEvolutionDTO.setTotalIncome(income);
         dashboardEvolutionDTO.setFinalBalance(finalBalance);
         dashboardEvolutionDTO.setVariationPercent(varPct);
-        dashboardEvolutionDTO.setTotalOrders(period.size());
-        dashboardEvolutionDTO.setOrders(period);
-        return dashboardEvolutionDTO;
-    }
+        dashboardEvolutionDTO.setTotalOrders(totals.orderCount() != null ? totals.orderCount().intValue() : 0);
 
-    public DashboardPerformanceDTO getPerformance(DashboardFilterDTO dashboardFilterDTO) {
-        LocalDate start = dashboardFilterDTO.getStartDate() != null ? dashboardFilterDTO.getStartDate() : LocalDate.MIN;
-        LocalDate end = dashboardFilterDTO.getEndDate() != null ? dashboardFilterDTO.getEndDate() : LocalDate.MAX;
-
-        List<Order> orders = orderRepository.findAll();
-        if (dashboardFilterDTO.getItemIds() != null && !dashboardFilterDTO.getItemIds().isEmpty()) {
-            orders = orders.stream()
-                    .filter(order -> order.getItems().stream()
-                            .anyMatch(item -> dashboardFilterDTO.getItemIds().contains(item.getId())))
-                    .toList();
+        if (Boolean.TRUE.equals(dashboardFilterDTO.getIncludeOrders())) {
+            dashboardEvolutionDTO.setOrders(findPeriodOrders(dashboardFilterDTO).getContent());
         }
+        return dashboardEvolutionDTO;
+    }
 
-        List<OrderResponseDTO> period = orders.stream()
-                .filter(order -> !order.getEmissionDate().isBefore(start) && !order.getEmissionDate().isAfter(end))
-                .map(orderService::toOrderResponseDTO).toList();
-
-        Map<Long, ItemPerformanceDTO> map = new HashMap<>();
-
-        for (OrderResponseDTO orderResponseDTO : period) {
-            if (orderResponseDTO.getItems() == null || orderResponseDTO.getItems().isEmpty()) continue;
+    public PageResponseDTO<OrderResponseDTO> findPeriodOrders(DashboardFilterDTO dashboardFilterDTO) {
+        return orderService.findAllFiltered(toOrderFilter(dashboardFilterDTO));
+    }
 
-            BigDecimal share = orderResponseDTO.getDiscountedValue()
-                    .divide(BigDecimal.valueOf(orderResponseDTO.getItems().size()), 2, RoundingMode.HALF_UP);
+    public CursorPageResponseDTO<OrderResponseDTO> scrollPeriodOrders(
+            DashboardFilterDTO dashboardFilterDTO,
+            String cursor,
+            Integer size) {
+        return orderService.scrollFiltered(toOrderFilter(dashboardFilterDTO), cursor, size);
+    }
 
-            orderResponseDTO.getItems().forEach(itemResponseDTO -> {
-                map.putIfAbsent(itemResponseDTO.getId(), new ItemPerformanceDTO());
-                ItemPerformanceDTO perf = map.get(itemResponseDTO.getId());
-                perf.setItemId(itemResponseDTO.getId());
-                perf.setItemName(itemResponseDTO.getName());
-                BigDecimal cur = perf.getTotalRevenue() != null ? perf.getTotalRevenue() : BigDecimal.ZERO;
-                perf.setTotalRevenue(cur.add(share));
-            });
+    private OrderFilterDTO toOrderFilter(DashboardFilterDTO dashboardFilterDTO) {
+        OrderFilterDTO orderFilterDTO = new OrderFilterDTO();
+        orderFilterDTO.setStartDate(dashboardFilterDTO.getStartDate());
+        orderFilterDTO.setEndDate(dashboardFilterDTO.getEndDate());
+        if (dashboardFilterDTO.getItemIds() != null && !dashboardFilterDTO.getItemIds().isEmpty()) {
+            orderFilterDTO.setItemIds(new ArrayList<>(dashboardFilterDTO.getItemIds()));
         }
+        orderFilterDTO.setSortBy(OrderSpecifications.SORT_EMISSION_DATE);
+        orderFilterDTO.setDirection("asc");
+        orderFilterDTO.setPage(dashboardFilterDTO.getPage());
+        orderFilterDTO.setSize(dashboardFilterDTO.getSize());
+        return orderFilterDTO;
+    }
 
-        BigDecimal total = map.values().stream()
+    DashboardPerformanceDTO computePerformance(DashboardFilterDTO dashboardFilterDTO) {
+        LocalDate start = dashboardFilterDTO.getStartDate() != null ? dashboardFilterDTO.getStartDate() : MIN_DATE;
+        LocalDate end = dashboardFilterDTO.getEndDate() != null ? dashboardFilterDTO.getEndDate() : MAX_DATE;
+        boolean filterItems = dashboardFilterDTO.getItemIds() != null && !dashboardFilterDTO.getItemIds().isEmpty();
+
+        List<ItemRevenueView> itemRevenues = filterItems
+                ? orderRepository.aggregateItemPerformance(start, end, dashboardFilterDTO.getItemIds())
+                : dailyRevenueRepository.aggregateItemPerformance(start, end);
+
+        List<ItemPerformanceDTO> itemPerformances = itemRevenues.stream()
+                .map(itemRevenueView -> {
+                    ItemPerformanceDTO perf = new ItemPerformanceDTO();
+                    perf.setItemId(itemRevenueView.getItemId());
+                    perf.setItemName(itemRevenueView.getItemName());
+                    perf.setTotalRevenue(itemRevenueView.getTotalRevenue());
+                    perf.setPercentageOfTotal(itemRevenueView.getPercentageOfTotal());
+                    perf.setVariation(BigDecimal.ZERO);
+                    return perf;
+                })
+                .collect(Collectors.toCollection(ArrayList::new));
+
+        BigDecimal total = itemPerformances.stream()
                 .map(ItemPerformanceDTO::getTotalRevenue)
                 .reduce(BigDecimal.ZERO, BigDecimal::add);
 
-        map.values().forEach(perf -> {
-            BigDecimal pct = total.compareTo(BigDecimal.ZERO) > 0
-                    ? perf.getTotalRevenue().multiply(BigDecimal.valueOf(100))
-                    .divide(total, 2, RoundingMode.HALF_UP)
-                    : BigDecimal.ZERO;
-            perf.setPercentageOfTotal(pct);
-            perf.setVariation(BigDecimal.ZERO);
-        });
-
         DashboardPerformanceDTO out = new DashboardPerformanceDTO();
         out.setFinalBalance(total);
-        out.setItemPerformances(new ArrayList<>(map.values()));
+        out.setItemPerformances(itemPerformances);
         return out;
     }
 }
@@ -0,0 +1,186 @@
+package com.propabanda.finance_tracker.service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.util.MinimalPrettyPrinter;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.propabanda.finance_tracker.dto.ExportFilterDTO;
+import com.propabanda.finance_tracker.dto.projection.ClientRow;
+import com.propabanda.finance_tracker.dto.projection.OrderExportRow;
+import com.propabanda.finance_tracker.dto.response.OrderResponseDTO;
+import com.propabanda.finance_tracker.repository.ClientRepository;
+import com.propabanda.finance_tracker.repository.OrderRepository;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+// Raw CSV / NDJSON exports for BI tooling. Rows come straight from a forward-only cursor and are
+// written as they arrive, so memory use does not depend on the number of rows.
+@Service
+public class DataExportService {
+
+    public enum Format {
+        CSV,
+        NDJSON
+    }
+
+    private record Column<T>(String name, Function<T, Object> value) {
+    }
+
+    private record OrderLine(OrderResponseDTO order, String itemNames) {
+    }
+
+    private static final LocalDate MIN_DATE = LocalDate.of(1, 1, 1);
+    private static final LocalDate MAX_DATE = LocalDate.of(9999, 12, 31);
+
+    private static final List<Column<ClientRow>> CLIENT_COLUMNS = List.of(
+            new Column<>("id", ClientRow::id),
+            new Column<>("name", ClientRow::name),
+            new Column<>("documentNumber", ClientRow::documentNumber),
+            new Column<>("status", ClientRow::status),
+            new Column<>("createdAt", ClientRow::createdAt),
+            new Column<>("representativeName", ClientRow::representativeName),
+            new Column<>("representativeEmail", ClientRow::representativeEmail),
+            new Column<>("representativePhone", ClientRow::representativePhone),
+            new Column<>("zipCode", ClientRow::zipCode),
+            new Column<>("state", ClientRow::state),
+            new Column<>("city", ClientRow::city),
+            new Column<>("neighbourhood", ClientRow::neighbourhood),
+            new Column<>("street", ClientRow::street),
+            new Column<>("number", ClientRow::number),
+            new Column<>("complement", ClientRow::complement),
+            new Column<>("reference", ClientRow::reference)
+    );
+
+    private static final List<Column<OrderLine>> ORDER_COLUMNS = List.of(
+            new Column<>("id", line -> line.order().getId()),
+            new Column<>("identifier", line -> line.order().getIdentifier()),
+            new Column<>("clientId", line -> line.order().getClientId()),
+            new Column<>("clientName", line -> line.order().getClientName()),
+            new Column<>("items", OrderLine::itemNames),
+            new Column<>("emissionDate", line -> line.order().getEmissionDate()),
+            new Column<>("contractStartDate", line -> line.order().getContractStartDate()),
+            new Column<>("contractEndDate", line -> line.order().getContractEndDate()),
+            new Column<>("installmentDay", line -> line.order().getInstallmentDay()),
+            new Column<>("installmentCount", line -> line.order().getInstallmentCount()),
+            new Column<>("paidInstallmentsCount", line -> line.order().getPaidInstallmentsCount()),
+            new Column<>("discount", line -> line.order().getDiscount()),
+            new Column<>("value", line -> line.order().getValue()),
+            new Column<>("discountedValue", line -> line.order().getDiscountedValue()),
+            new Column<>("paidValue", line -> line.order().getPaidValue()),
+            new Column<>("remainingValue", line -> line.order().getRemainingValue())
+    );
+
+    private final ClientRepository clientRepository;
+    private final OrderRepository orderRepository;
+    private final OrderService orderService;
+    private final ObjectMapper objectMapper;
+
+    public DataExportService(ClientRepository clientRepository, OrderRepository orderRepository,
+                             OrderService orderService, ObjectMapper objectMapper) {
+        this.clientRepository = clientRepository;
+        this.orderRepository = orderRepository;
+        this.orderService = orderService;
+        this.objectMapper = objectMapper;
+    }
+
+    @Transactional(readOnly = true)
+    public void writeClients(ExportFilterDTO exportFilterDTO, Format format, OutputStream out) throws IOException {
+        try (Stream<ClientRow> rows = clientRepository.streamAllRows(exportFilterDTO.getStatus())) {
+            write(rows, CLIENT_COLUMNS, format, out);
+        }
+    }
+
+    @Transactional(readOnly = true)
+    public void writeOrders(ExportFilterDTO exportFilterDTO, Format format, OutputStream out) throws IOException {
+        LocalDate start = exportFilterDTO.getStartDate() != null ? exportFilterDTO.getStartDate() : MIN_DATE;
+        LocalDate end = exportFilterDTO.getEndDate() != null ? exportFilterDTO.getEndDate() : MAX_DATE;
+        boolean filterItems = exportFilterDTO.getItemIds() != null && !exportFilterDTO.getItemIds().isEmpty();
+
+        try (Stream<OrderExportRow> rows = filterItems
+                ? orderRepository.streamExportRows(start, end, exportFilterDTO.getItemIds())
+                : orderRepository.streamExportRows(start, end)) {
+            Stream<OrderLine> lines = rows.map(row -> new OrderLine(orderService.toOrderResponseDTO(row), row.itemNames()));
+            write(lines, ORDER_COLUMNS, format, out);
+        }
+    }
+
+    private <T> void write(Stream<T> rows, List<Column<T>> columns, Format format, OutputStream out) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        try {
+            if (format == Format.CSV) {
+                writeCsv(rows, columns, writer);
+            } else {
+                writeNdjson(rows, columns, writer);
+            }
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+        writer.flush();
+    }
+
+    private <T> void writeCsv(Stream<T> rows, List<Column<T>> columns, Writer writer) throws IOException {
+        writeCsvLine(columns.stream().map(Column::name).toList(), writer);
+        rows.forEach(row -> {
+            try {
+                writeCsvLine(columns.stream().map(column -> column.value().apply(row)).toList(), writer);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+    }
+
+    private void writeCsvLine(List<?> values, Writer writer) throws IOException {
+        for (int i = 0; i < values.size(); i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            writer.write(escapeCsv(values.get(i)));
+        }
+        writer.write("\r\n");
+    }
+
+    private static String escapeCsv(Object value) {
+        if (value == null) {
+            return "";
+        }
+        String text = value instanceof BigDecimal decimal ? decimal.toPlainString() : value.toString();
+        if (text.indexOf(',') < 0 && text.indexOf('"') < 0 && text.indexOf('\n') < 0 && text.indexOf('\r') < 0) {
+            return text;
+        }
+        return '"' + text.replace("\"", "\"\"") + '"';
+    }
+
+    private <T> void writeNdjson(Stream<T> rows, List<Column<T>> columns, Writer writer) throws IOException {
+        JsonGenerator generator = objectMapper.createGenerator(writer);
+        generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        generator.setPrettyPrinter(new MinimalPrettyPrinter("\n"));
+        rows.forEach(row -> {
+            try {
+                generator.writeStartObject();
+                for (Column<T> column : columns) {
+                    generator.writeFieldName(column.name());
+                    generator.writeObject(column.value().apply(row));
+                }
+                generator.writeEndObject();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+        if (generator.getOutputContext().getEntryCount() > 0) {
+            generator.writeRaw('\n');
+        }
+        generator.flush();
+    }
+}
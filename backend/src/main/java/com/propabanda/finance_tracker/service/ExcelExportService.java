@@ -10,99 +10,179 @@ import org.apache.poi.ss.SpreadsheetVersion;
 import org.apache.poi.ss.usermodel.*;
 import org.apache.poi.ss.util.AreaReference;
 import org.apache.poi.ss.util.CellReference;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
 import org.apache.poi.xssf.usermodel.*;
 import org.springframework.stereotype.Service;
 
-import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigDecimal;
 import java.util.List;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 import java.util.UUID;
 
 @Service
 public class ExcelExportService {
 
-    public byte[] generateFullReport(
+    // Rows kept in memory per sheet; older rows are flushed to a temp file.
+    private static final int ROW_WINDOW = 100;
+
+    private static final String[] CLIENT_COLUMNS = {
+            "ID", "Nome", "Documento", "Representante", "Email", "Telefone", "Cidade", "Estado", "Status"
+    };
+    private static final String[] ORDER_COLUMNS = {
+            "ID", "Cliente", "Itens", "Emissão", "Início", "Fim",
+            "Parcelas", "Pagas", "Desconto %", "Valor Bruto",
+            "Valor Líquido", "Valor Pago", "Valor Restante"
+    };
+    private static final String[] DASHBOARD_COLUMNS = {"Indicador", "Valor"};
+    private static final String[] ITEM_PERFORMANCE_COLUMNS = {"ID", "Item", "Total (R$)", "% do Total"};
+
+    // Header rows and tables live on the XSSF template; data rows are streamed through SXSSF,
+    // so memory stays bounded by ROW_WINDOW regardless of how many orders are written.
+    public void writeFullReport(
+            OutputStream out,
             List<ClientResponseDTO> clientList,
-            List<OrderResponseDTO> orderList,
+            Stream<OrderResponseDTO> orders,
             DashboardEvolutionDTO dashboardEvolutionDTO,
             List<ItemPerformanceDTO> itemPerformanceList,
             ClientStatus status
     ) throws IOException {
-        try (XSSFWorkbook wb = new XSSFWorkbook()) {
-            DataFormat df = wb.createDataFormat();
+        XSSFWorkbook template = new XSSFWorkbook();
 
-            if (status != null) {
-                clientList = clientList.stream()
-                        .filter(c -> c.getStatus() == status)
-                        .toList();
-            }
+        if (status != null) {
+            clientList = clientList.stream()
+                    .filter(c -> c.getStatus() == status)
+                    .toList();
+        }
 
-            // Fonte e estilos comuns
-            XSSFFont arial12 = wb.createFont();
-            arial12.setFontName("Arial");
-            arial12.setFontHeightInPoints((short) 12);
-
-            XSSFFont headerFont = wb.createFont();
-            headerFont.setFontName("Arial");
-            headerFont.setFontHeightInPoints((short) 12);
-            headerFont.setBold(true);
-
-            CellStyle headerStyle = wb.createCellStyle();
-            headerStyle.setFont(headerFont);
-            headerStyle.setAlignment(HorizontalAlignment.LEFT);
-            headerStyle.setVerticalAlignment(VerticalAlignment.CENTER);
-
-            CellStyle textStyle = wb.createCellStyle();
-            textStyle.setFont(arial12);
-            textStyle.setAlignment(HorizontalAlignment.LEFT);
-            textStyle.setVerticalAlignment(VerticalAlignment.CENTER);
-
-            CellStyle currencyStyle = wb.createCellStyle();
-            currencyStyle.setFont(arial12);
-            currencyStyle.setAlignment(HorizontalAlignment.LEFT);
-            currencyStyle.setVerticalAlignment(VerticalAlignment.CENTER);
-            currencyStyle.setDataFormat(df.getFormat("R$ #,##0.00"));
-
-            CellStyle percentStyle = wb.createCellStyle();
-            percentStyle.setFont(arial12);
-            percentStyle.setAlignment(HorizontalAlignment.LEFT);
-            percentStyle.setVerticalAlignment(VerticalAlignment.CENTER);
-            percentStyle.setDataFormat(df.getFormat("0.00%"));
-
-            createClientsSheet(wb, clientList, headerStyle, textStyle);
-            createOrdersSheet(wb, orderList, headerStyle, textStyle, currencyStyle, percentStyle);
-            createDashboardSheet(wb, dashboardEvolutionDTO, headerStyle, textStyle, currencyStyle, percentStyle);
-            createItemPerformanceSheet(wb, itemPerformanceList, headerStyle, textStyle, currencyStyle, percentStyle);
-
-            try (ByteArrayOutputStream out = new ByteArrayOutputStream()) {
-                wb.write(out);
-                return out.toByteArray();
-            }
+        Styles styles = createStyles(template);
+        CellStyle headerStyle = styles.header();
+        CellStyle textStyle = styles.text();
+        CellStyle currencyStyle = styles.currency();
+        CellStyle percentStyle = styles.percent();
+
+        createSheetWithHeader(template, "Clientes", CLIENT_COLUMNS, headerStyle);
+        createSheetWithHeader(template, "Pedidos", ORDER_COLUMNS, headerStyle);
+        createSheetWithHeader(template, "Resumo", DASHBOARD_COLUMNS, headerStyle);
+        createSheetWithHeader(template, "Performance Itens", ITEM_PERFORMANCE_COLUMNS, headerStyle);
+
+        SXSSFWorkbook wb = new SXSSFWorkbook(template, ROW_WINDOW);
+        wb.setCompressTempFiles(true);
+        try {
+            int clientRows = fillClientsSheet(wb.getSheet("Clientes"), clientList, textStyle);
+            int orderRows = fillOrdersSheet(wb.getSheet("Pedidos"), orders, textStyle, currencyStyle, percentStyle);
+            int dashboardRows = fillDashboardSheet(wb.getSheet("Resumo"), dashboardEvolutionDTO,
+                    textStyle, currencyStyle, percentStyle);
+            int itemRows = fillItemPerformanceSheet(wb.getSheet("Performance Itens"), itemPerformanceList,
+                    textStyle, currencyStyle, percentStyle);
+
+            createTableWithStyle(template.getSheet("Clientes"), clientRows, CLIENT_COLUMNS.length, "Clientes");
+            createTableWithStyle(template.getSheet("Pedidos"), orderRows, ORDER_COLUMNS.length, "Pedidos");
+            createTableWithStyle(template.getSheet("Resumo"), dashboardRows, DASHBOARD_COLUMNS.length, "Resumo");
+            createTableWithStyle(template.getSheet("Performance Itens"), itemRows,
+                    ITEM_PERFORMANCE_COLUMNS.length, "Performance");
+
+            wb.write(out);
+        } finally {
+            wb.dispose();
+            wb.close();
         }
     }
 
-    private void createClientsSheet(
-            XSSFWorkbook wb,
-            List<ClientResponseDTO> list,
-            CellStyle headerStyle,
-            CellStyle textStyle
-    ) {
-        XSSFSheet sheet = wb.createSheet("Clientes");
+    // One small workbook per client for account reviews: its orders plus paid / remaining totals.
+    public void writeClientStatement(
+            OutputStream out,
+            ClientResponseDTO client,
+            List<OrderResponseDTO> orderList
+    ) throws IOException {
+        XSSFWorkbook template = new XSSFWorkbook();
+        Styles styles = createStyles(template);
+
+        createSheetWithHeader(template, "Resumo", DASHBOARD_COLUMNS, styles.header());
+        createSheetWithHeader(template, "Pedidos", ORDER_COLUMNS, styles.header());
+
+        SXSSFWorkbook wb = new SXSSFWorkbook(template, ROW_WINDOW);
+        wb.setCompressTempFiles(true);
+        try {
+            int summaryRows = fillStatementSummarySheet(wb.getSheet("Resumo"), client, orderList,
+                    styles.text(), styles.currency());
+            int orderRows = fillOrdersSheet(wb.getSheet("Pedidos"), orderList.stream(),
+                    styles.text(), styles.currency(), styles.percent());
+
+            createTableWithStyle(template.getSheet("Resumo"), summaryRows, DASHBOARD_COLUMNS.length, "Resumo");
+            createTableWithStyle(template.getSheet("Pedidos"), orderRows, ORDER_COLUMNS.length, "Pedidos");
+
+            wb.write(out);
+        } finally {
+            wb.dispose();
+            wb.close();
+        }
+    }
+
+    private record Styles(CellStyle header, CellStyle text, CellStyle currency, CellStyle percent) {
+    }
+
+    private Styles createStyles(XSSFWorkbook template) {
+        DataFormat df = template.createDataFormat();
+
+        // Fonte e estilos comuns
+        XSSFFont arial12 = template.createFont();
+        arial12.setFontName("Arial");
+        arial12.setFontHeightInPoints((short) 12);
+
+        XSSFFont headerFont = template.createFont();
+        headerFont.setFontName("Arial");
+        headerFont.setFontHeightInPoints((short) 12);
+        headerFont.setBold(true);
+
+        CellStyle headerStyle = template.createCellStyle();
+        headerStyle.setFont(headerFont);
+        headerStyle.setAlignment(HorizontalAlignment.LEFT);
+        headerStyle.setVerticalAlignment(VerticalAlignment.CENTER);
+
+        CellStyle textStyle = template.createCellStyle();
+        textStyle.setFont(arial12);
+        textStyle.setAlignment(HorizontalAlignment.LEFT);
+        textStyle.setVerticalAlignment(VerticalAlignment.CENTER);
+
+        CellStyle currencyStyle = template.createCellStyle();
+        currencyStyle.setFont(arial12);
+        currencyStyle.setAlignment(HorizontalAlignment.LEFT);
+        currencyStyle.setVerticalAlignment(VerticalAlignment.CENTER);
+        currencyStyle.setDataFormat(df.getFormat("R$ #,##0.00"));
+
+        CellStyle percentStyle = template.createCellStyle();
+        percentStyle.setFont(arial12);
+        percentStyle.setAlignment(HorizontalAlignment.LEFT);
+        percentStyle.setVerticalAlignment(VerticalAlignment.CENTER);
+        percentStyle.setDataFormat(df.getFormat("0.00%"));
+
+        return new Styles(headerStyle, textStyle, currencyStyle, percentStyle);
+    }
+
+    private void createSheetWithHeader(XSSFWorkbook wb, String name, String[] cols, CellStyle headerStyle) {
+        XSSFSheet sheet = wb.createSheet(name);
         sheet.setDisplayGridlines(false);
         sheet.setDefaultColumnWidth(25);
 
-        String[] cols = {"ID", "Nome", "Documento", "Representante", "Email", "Telefone", "Cidade", "Estado", "Status"};
         XSSFRow header = sheet.createRow(0);
         for (int i = 0; i < cols.length; i++) {
             XSSFCell c = header.createCell(i);
             c.setCellValue(cols[i]);
             c.setCellStyle(headerStyle);
         }
+    }
 
+    private int fillClientsSheet(
+            Sheet sheet,
+            List<ClientResponseDTO> list,
+            CellStyle textStyle
+    ) {
         int rowIndex = 1;
         for (ClientResponseDTO dto : list) {
-            XSSFRow row = sheet.createRow(rowIndex++);
+            Row row = sheet.createRow(rowIndex++);
             row.createCell(0).setCellValue(dto.getId());
             row.createCell(1).setCellValue(dto.getName());
             row.createCell(2).setCellValue(dto.getDocumentNumber());
@@ -113,44 +193,26 @@ public class ExcelExportService {
             row.createCell(7).setCellValue(dto.getAddressResponseDTO().getState());
             row.createCell(8).setCellValue(dto.getStatus().name());
 
-            for (int i = 0; i < cols.length; i++) {
+            for (int i = 0; i < CLIENT_COLUMNS.length; i++) {
                 row.getCell(i).setCellStyle(textStyle);
             }
         }
-
-        createTableWithStyle(sheet, rowIndex, cols.length, "Clientes");
+        return rowIndex;
     }
 
-    private void createOrdersSheet(
-            XSSFWorkbook wb,
-            List<OrderResponseDTO> list,
-            CellStyle headerStyle,
+    private int fillOrdersSheet(
+            Sheet sheet,
+            Stream<OrderResponseDTO> orders,
             CellStyle textStyle,
             CellStyle currencyStyle,
             CellStyle percentStyle
     ) {
-        XSSFSheet sheet = wb.createSheet("Pedidos");
-        sheet.setDisplayGridlines(false);
-        sheet.setDefaultColumnWidth(25);
-
-        String[] cols = {
-                "ID", "Cliente", "Itens", "Emissão", "Início", "Fim",
-                "Parcelas", "Pagas", "Desconto %", "Valor Bruto",
-                "Valor Líquido", "Valor Pago", "Valor Restante"
-        };
-        XSSFRow header = sheet.createRow(0);
-        for (int i = 0; i < cols.length; i++) {
-            XSSFCell c = header.createCell(i);
-            c.setCellValue(cols[i]);
-            c.setCellStyle(headerStyle);
-        }
-
         int rowIndex = 1;
-        for (OrderResponseDTO dto : list) {
+        for (OrderResponseDTO dto : (Iterable<OrderResponseDTO>) orders::iterator) {
             String items = dto.getItems().stream()
                     .map(ItemResponseDTO::getName)
                     .collect(Collectors.joining(", "));
-            XSSFRow row = sheet.createRow(rowIndex++);
+            Row row = sheet.createRow(rowIndex++);
             row.createCell(0).setCellValue(dto.getId());
             row.createCell(1).setCellValue(dto.getClientName());
             row.createCell(2).setCellValue(items);
@@ -160,23 +222,23 @@ public class ExcelExportService {
             row.createCell(6).setCellValue(dto.getInstallmentCount());
             row.createCell(7).setCellValue(dto.getPaidInstallmentsCount());
 
-            XSSFCell dCell = row.createCell(8);
+            Cell dCell = row.createCell(8);
             dCell.setCellValue(dto.getDiscount().doubleValue() / 100);
             dCell.setCellStyle(percentStyle);
 
-            XSSFCell vCell = row.createCell(9);
+            Cell vCell = row.createCell(9);
             vCell.setCellValue(dto.getValue().doubleValue());
             vCell.setCellStyle(currencyStyle);
 
-            XSSFCell dvCell = row.createCell(10);
+            Cell dvCell = row.createCell(10);
             dvCell.setCellValue(dto.getDiscountedValue().doubleValue());
             dvCell.setCellStyle(currencyStyle);
 
-            XSSFCell pvCell = row.createCell(11);
+            Cell pvCell = row.createCell(11);
             pvCell.setCellValue(dto.getPaidValue().doubleValue());
             pvCell.setCellStyle(currencyStyle);
 
-            XSSFCell rvCell = row.createCell(12);
+            Cell rvCell = row.createCell(12);
             rvCell.setCellValue(dto.getRemainingValue().doubleValue());
             rvCell.setCellStyle(currencyStyle);
 
@@ -184,31 +246,20 @@ public class ExcelExportService {
                 row.getCell(i).setCellStyle(textStyle);
             }
         }
-
-        createTableWithStyle(sheet, rowIndex, cols.length, "Pedidos");
+        return rowIndex;
     }
 
-    private void createDashboardSheet(
-            XSSFWorkbook wb,
+    private int fillDashboardSheet(
+            Sheet sheet,
             DashboardEvolutionDTO dto,
-            CellStyle headerStyle,
             CellStyle textStyle,
             CellStyle currencyStyle,
             CellStyle percentStyle
     ) {
-        XSSFSheet sheet = wb.createSheet("Resumo");
-        sheet.setDisplayGridlines(false);
-        sheet.setDefaultColumnWidth(25);
-
         String[] indicators = {
                 "Saldo Inicial", "Entradas no Período", "Saldo Final",
                 "Nº de Pedidos", "Variação (%)"
         };
-        XSSFRow header = sheet.createRow(0);
-        header.createCell(0).setCellValue("Indicador");
-        header.createCell(1).setCellValue("Valor");
-        header.getCell(0).setCellStyle(headerStyle);
-        header.getCell(1).setCellStyle(headerStyle);
 
         Object[] vals = {
                 dto.getInitialBalance().doubleValue(),
@@ -219,9 +270,9 @@ public class ExcelExportService {
         };
 
         for (int i = 0; i < indicators.length; i++) {
-            XSSFRow row = sheet.createRow(i + 1);
+            Row row = sheet.createRow(i + 1);
             row.createCell(0).setCellValue(indicators[i]);
-            XSSFCell valCell = row.createCell(1);
+            Cell valCell = row.createCell(1);
             if (i == 3) {
                 valCell.setCellValue((Integer) vals[i]);
                 valCell.setCellStyle(textStyle);
@@ -234,46 +285,71 @@ public class ExcelExportService {
             }
             row.getCell(0).setCellStyle(textStyle);
         }
+        return indicators.length + 1;
+    }
 
-        createTableWithStyle(sheet, indicators.length + 1, 2, "Resumo");
+    private int fillStatementSummarySheet(
+            Sheet sheet,
+            ClientResponseDTO client,
+            List<OrderResponseDTO> orderList,
+            CellStyle textStyle,
+            CellStyle currencyStyle
+    ) {
+        BigDecimal discounted = BigDecimal.ZERO;
+        BigDecimal paid = BigDecimal.ZERO;
+        BigDecimal remaining = BigDecimal.ZERO;
+        for (OrderResponseDTO dto : orderList) {
+            discounted = discounted.add(dto.getDiscountedValue());
+            paid = paid.add(dto.getPaidValue());
+            remaining = remaining.add(dto.getRemainingValue());
+        }
+
+        String[] textIndicators = {"Cliente", "Documento", "Nº de Pedidos"};
+        String[] textValues = {client.getName(), client.getDocumentNumber(), String.valueOf(orderList.size())};
+        String[] valueIndicators = {"Valor Líquido", "Valor Pago", "Valor Restante"};
+        BigDecimal[] values = {discounted, paid, remaining};
+
+        int rowIndex = 1;
+        for (int i = 0; i < textIndicators.length; i++) {
+            Row row = sheet.createRow(rowIndex++);
+            row.createCell(0).setCellValue(textIndicators[i]);
+            row.createCell(1).setCellValue(textValues[i]);
+            row.getCell(0).setCellStyle(textStyle);
+            row.getCell(1).setCellStyle(textStyle);
+        }
+        for (int i = 0; i < valueIndicators.length; i++) {
+            Row row = sheet.createRow(rowIndex++);
+            row.createCell(0).setCellValue(valueIndicators[i]);
+            Cell valCell = row.createCell(1);
+            valCell.setCellValue(values[i].doubleValue());
+            valCell.setCellStyle(currencyStyle);
+            row.getCell(0).setCellStyle(textStyle);
+        }
+        return rowIndex;
     }
 
-    private void createItemPerformanceSheet(
-            XSSFWorkbook wb,
+    private int fillItemPerformanceSheet(
+            Sheet sheet,
             List<ItemPerformanceDTO> list,
-            CellStyle headerStyle,
             CellStyle textStyle,
             CellStyle currencyStyle,
             CellStyle percentStyle
     ) {
-        XSSFSheet sheet = wb.createSheet("Performance Itens");
-        sheet.setDisplayGridlines(false);
-        sheet.setDefaultColumnWidth(25);
-
-        String[] cols = {"ID", "Item", "Total (R$)", "% do Total"};
-        XSSFRow header = sheet.createRow(0);
-        for (int i = 0; i < cols.length; i++) {
-            XSSFCell c = header.createCell(i);
-            c.setCellValue(cols[i]);
-            c.setCellStyle(headerStyle);
-        }
-
         int rowIndex = 1;
         for (ItemPerformanceDTO dto : list) {
-            XSSFRow row = sheet.createRow(rowIndex++);
+            Row row = sheet.createRow(rowIndex++);
             row.createCell(0).setCellValue(dto.getItemId());
             row.createCell(1).setCellValue(dto.getItemName());
-            XSSFCell tot = row.createCell(2);
+            Cell tot = row.createCell(2);
             tot.setCellValue(dto.getTotalRevenue().doubleValue());
             tot.setCellStyle(currencyStyle);
-            XSSFCell pct = row.createCell(3);
+            Cell pct = row.createCell(3);
             pct.setCellValue(dto.getPercentageOfTotal().doubleValue() / 100);
             pct.setCellStyle(percentStyle);
             row.getCell(0).setCellStyle(textStyle);
             row.getCell(1).setCellStyle(textStyle);
         }
-
-        createTableWithStyle(sheet, rowIndex, cols.length, "Performance");
+        return rowIndex;
     }
 
     private void createTableWithStyle(XSSFSheet sheet, int lastRow, int lastCol, String tableName) {
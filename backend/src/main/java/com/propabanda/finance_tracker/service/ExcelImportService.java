@@ -1,174 +1,131 @@
 package com.propabanda.finance_tracker.service;
 
-import com.propabanda.finance_tracker.dto.request.AddressRequestDTO;
-import com.propabanda.finance_tracker.dto.request.ClientRequestDTO;
-import com.propabanda.finance_tracker.dto.request.RepresentativeRequestDTO;
-import com.propabanda.finance_tracker.model.Client;
-import com.propabanda.finance_tracker.model.ClientStatus;
-import com.propabanda.finance_tracker.model.Item;
-import com.propabanda.finance_tracker.model.Order;
-import com.propabanda.finance_tracker.repository.ClientRepository;
-import com.propabanda.finance_tracker.repository.ItemRepository;
-import com.propabanda.finance_tracker.repository.OrderRepository;
-import org.apache.poi.ss.usermodel.*;
-import org.apache.poi.xssf.usermodel.XSSFWorkbook;
-import org.springframework.beans.factory.annotation.Value;
+import org.apache.poi.openxml4j.opc.OPCPackage;
+import org.apache.poi.openxml4j.opc.PackageAccess;
+import org.apache.poi.ss.usermodel.DataFormatter;
+import org.apache.poi.ss.usermodel.DateUtil;
+import org.apache.poi.ss.util.CellReference;
+import org.apache.poi.util.XMLHelper;
+import org.apache.poi.xssf.eventusermodel.ReadOnlySharedStringsTable;
+import org.apache.poi.xssf.eventusermodel.XSSFReader;
+import org.apache.poi.xssf.eventusermodel.XSSFSheetXMLHandler;
+import org.apache.poi.xssf.usermodel.XSSFComment;
+import com.propabanda.finance_tracker.dto.response.ImportReportDTO;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
+import org.xml.sax.InputSource;
+import org.xml.sax.XMLReader;
 
+import java.io.IOException;
 import java.io.InputStream;
-import java.math.BigDecimal;
-import java.nio.file.Paths;
-import java.time.LocalDate;
-import java.time.format.DateTimeFormatter;
-import java.util.HashSet;
-import java.util.Set;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
 
 @Service
 public class ExcelImportService {
 
-    private final ClientService clientService;
-    private final ClientRepository clientRepository;
-    private final OrderService orderService;
-    private final OrderRepository orderRepository;
-    private final ItemRepository itemRepository;
+    private final BulkImportService bulkImportService;
 
-    private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("d/M/uuuu");
-
-    @Value("${file.upload-dir}")
-    private String uploadDir;
-
-    public ExcelImportService(ClientService clientService,
-                              ClientRepository clientRepository,
-                              OrderService orderService,
-                              OrderRepository orderRepository,
-                              ItemRepository itemRepository) {
-        this.clientService = clientService;
-        this.clientRepository = clientRepository;
-        this.orderService = orderService;
-        this.orderRepository = orderRepository;
-        this.itemRepository = itemRepository;
+    public ExcelImportService(BulkImportService bulkImportService) {
+        this.bulkImportService = bulkImportService;
     }
 
-    @Transactional
-    public void importFromExcel(MultipartFile file) {
-        try (InputStream inputStream = file.getInputStream();
-             Workbook workbook = new XSSFWorkbook(inputStream)) {
-            importClients(workbook);
-            importOrders(workbook);
+    public ImportReportDTO importFromExcel(MultipartFile file) {
+        Path spooled = null;
+        try {
+            // The event reader needs random access to the zip; a file keeps it off the heap.
+            spooled = Files.createTempFile("import-", ".xlsx");
+            file.transferTo(spooled);
+            try (OPCPackage pkg = OPCPackage.open(spooled.toFile(), PackageAccess.READ)) {
+                XSSFReader reader = new XSSFReader(pkg);
+                ReadOnlySharedStringsTable strings = new ReadOnlySharedStringsTable(pkg);
+                DataFormatter formatter = new ImportDataFormatter();
+                return bulkImportService.importRows(
+                        rowConsumer -> readSheet(reader, strings, formatter, BulkImportService.CLIENT_SHEET, rowConsumer),
+                        rowConsumer -> readSheet(reader, strings, formatter, BulkImportService.ORDER_SHEET, rowConsumer));
+            }
         } catch (Exception e) {
             throw new RuntimeException("Erro ao importar Excel: " + e.getMessage(), e);
+        } finally {
+            if (spooled != null) {
+                try {
+                    Files.deleteIfExists(spooled);
+                } catch (IOException ignored) {
+                    // The temp directory is cleaned by the OS eventually.
+                }
+            }
         }
     }
 
-    private void importClients(Workbook workbook) {
-        Sheet clientsSheet = workbook.getSheet("Clientes");
-        if (clientsSheet == null) throw new RuntimeException("Aba 'Clientes' não encontrada");
-        boolean firstRow = true;
-        for (Row row : clientsSheet) {
-            int statusCol = row.getLastCellNum() - 1;
-            String statusValue = getCellValue(row.getCell(statusCol));
-
-            if (firstRow) {
-                firstRow = false;
-                continue;
+    // Streams one sheet through the SAX handler; only the current row is held in memory.
+    private void readSheet(XSSFReader reader, ReadOnlySharedStringsTable strings, DataFormatter formatter,
+                           String sheetName, BulkImportService.RowConsumer rowConsumer) throws Exception {
+        XSSFReader.SheetIterator sheets = (XSSFReader.SheetIterator) reader.getSheetsData();
+        while (sheets.hasNext()) {
+            try (InputStream sheet = sheets.next()) {
+                if (!sheetName.equals(sheets.getSheetName())) {
+                    continue;
+                }
+                XMLReader xmlReader = XMLHelper.newXMLReader();
+                xmlReader.setContentHandler(new XSSFSheetXMLHandler(
+                        reader.getStylesTable(), null, strings, new RowCollector(rowConsumer), formatter, false));
+                xmlReader.parse(new InputSource(sheet));
+                return;
             }
-            String clientName = getCellValue(row.getCell(0));
-            String clientDocumentNumber = getCellValue(row.getCell(1));
-            if (clientService.existsByDocumentNumber(clientDocumentNumber)) continue;
-            RepresentativeRequestDTO representativeRequestDTO = new RepresentativeRequestDTO();
-            representativeRequestDTO.setName(getCellValue(row.getCell(2)));
-            representativeRequestDTO.setEmail(getCellValue(row.getCell(3)));
-            representativeRequestDTO.setPhone(getCellValue(row.getCell(4)));
-            AddressRequestDTO addressRequestDTO = new AddressRequestDTO();
-            addressRequestDTO.setZipCode(getCellValue(row.getCell(5)));
-            addressRequestDTO.setState(getCellValue(row.getCell(6)));
-            addressRequestDTO.setCity(getCellValue(row.getCell(7)));
-            addressRequestDTO.setNeighbourhood(getCellValue(row.getCell(8)));
-            addressRequestDTO.setStreet(getCellValue(row.getCell(9)));
-            addressRequestDTO.setNumber(getCellValue(row.getCell(10)));
-            addressRequestDTO.setComplement(getCellValue(row.getCell(11)));
-            addressRequestDTO.setReference(getCellValue(row.getCell(12)));
-            ClientRequestDTO clientRequestDTO = new ClientRequestDTO();
-            clientRequestDTO.setName(clientName);
-            clientRequestDTO.setDocumentNumber(clientDocumentNumber);
-            clientRequestDTO.setRepresentativeRequestDTO(representativeRequestDTO);
-            clientRequestDTO.setAddressRequestDTO(addressRequestDTO);
-            clientRequestDTO.setStatus(
-                    ClientStatus.valueOf(statusValue.trim().toUpperCase())
-            );
-            clientService.save(clientRequestDTO);
         }
+        throw new RuntimeException("Aba '" + sheetName + "' não encontrada");
     }
 
-    private void importOrders(Workbook workbook) {
-        Sheet ordersSheet = workbook.getSheet("Pedidos");
-        if (ordersSheet == null) throw new RuntimeException("Aba 'Pedidos' não encontrada");
+    // Collects the formatted cells of each row by column index; skips the header and blank rows.
+    private static final class RowCollector implements XSSFSheetXMLHandler.SheetContentsHandler {
+        private final BulkImportService.RowConsumer rowConsumer;
+        private final List<String> values = new ArrayList<>();
+        private boolean headerSeen;
+        private int column;
 
-        boolean firstRow = true;
-        for (Row row : ordersSheet) {
-            if (firstRow) {
-                firstRow = false;
-                continue;
-            }
-            String clientDocumentNumber = getCellValue(row.getCell(0));
-            Client client = clientRepository.findByDocumentNumber(clientDocumentNumber)
-                    .orElseThrow(() -> new RuntimeException("Cliente não encontrado: " + clientDocumentNumber));
-            LocalDate emissionDate = parseDate(row.getCell(1));
-            LocalDate contractStartDate = parseDate(row.getCell(2));
-            LocalDate contractEndDate = parseDate(row.getCell(3));
-            int installmentDay = Integer.parseInt(getCellValue(row.getCell(4)));
-            int installmentCount = Integer.parseInt(getCellValue(row.getCell(5)));
-            BigDecimal discount = new BigDecimal(getCellValue(row.getCell(6)));
-            int paidInstallments = Integer.parseInt(getCellValue(row.getCell(7)));
-            String fileName = getCellValue(row.getCell(8));
-            String contractFilePath = Paths
-                    .get(uploadDir, fileName)
-                    .toAbsolutePath()
-                    .toString();
-            BigDecimal totalValue = new BigDecimal(getCellValue(row.getCell(9)));
-            Set<Item> items = new HashSet<>();
-            for (int i = 10; i < row.getLastCellNum(); i++) {
-                String itemName = getCellValue(row.getCell(i));
-                if (itemName.isBlank()) continue;
-                Item item = itemRepository.findByNameIgnoreCase(itemName)
-                        .orElseGet(() -> {
-                            Item newItem = new Item();
-                            newItem.setName(itemName);
-                            return itemRepository.save(newItem);
-                        });
-                items.add(item);
-            }
-            Order order = new Order();
-            order.setClient(client);
-            order.setEmissionDate(emissionDate);
-            order.setContractStartDate(contractStartDate);
-            order.setContractEndDate(contractEndDate);
-            order.setInstallmentDay(installmentDay);
-            order.setInstallmentCount(installmentCount);
-            order.setDiscount(discount);
-            order.setPaidInstallmentsCount(paidInstallments);
+        private RowCollector(BulkImportService.RowConsumer rowConsumer) {
+            this.rowConsumer = rowConsumer;
+        }
 
-            order.setContractFilePath(contractFilePath);
+        @Override
+        public void startRow(int rowNum) {
+            values.clear();
+            column = -1;
+        }
 
-            order.setValue(totalValue);
-            order.setItems(items);
+        @Override
+        public void endRow(int rowNum) {
+            if (!headerSeen) {
+                headerSeen = true;
+                return;
+            }
+            if (values.stream().allMatch(value -> value == null || value.isBlank())) {
+                return;
+            }
+            rowConsumer.accept(rowNum + 1, values);
+        }
 
-            orderRepository.save(order);
+        @Override
+        public void cell(String cellReference, String formattedValue, XSSFComment comment) {
+            column = cellReference != null ? new CellReference(cellReference).getCol() : column + 1;
+            while (values.size() < column) {
+                values.add("");
+            }
+            values.add(formattedValue);
         }
     }
 
-    private String getCellValue(Cell cell) {
-        if (cell == null) return "";
-        return new DataFormatter().formatCellValue(cell).trim();
-    }
+    // Date cells come out as d/M/uuuu whatever their display format, so they parse like text dates.
+    private static final class ImportDataFormatter extends DataFormatter {
 
-    private LocalDate parseDate(Cell cell) {
-        if (cell == null) return null;
-        if (cell.getCellType() == CellType.NUMERIC) {
-            return cell.getLocalDateTimeCellValue().toLocalDate();
+        @Override
+        public String formatRawCellContents(double value, int formatIndex, String formatString, boolean use1904Windowing) {
+            if (DateUtil.isADateFormat(formatIndex, formatString) && DateUtil.isValidExcelDate(value)) {
+                return DateUtil.getLocalDateTime(value, use1904Windowing).toLocalDate().format(BulkImportService.DATE_FORMATTER);
+            }
+            return super.formatRawCellContents(value, formatIndex, formatString, use1904Windowing);
         }
-        return LocalDate.parse(cell.getStringCellValue().trim(), DATE_FORMATTER);
     }
 }
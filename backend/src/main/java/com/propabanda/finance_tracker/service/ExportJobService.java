@@ -0,0 +1,219 @@
+package com.propabanda.finance_tracker.service;
+
+import com.propabanda.finance_tracker.dto.ExportFilterDTO;
+import com.propabanda.finance_tracker.dto.response.ExportJobResponseDTO;
+import com.propabanda.finance_tracker.model.ClientStatus;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+@Service
+public class ExportJobService {
+
+    private static final Logger logger = LoggerFactory.getLogger(ExportJobService.class);
+
+    public enum Status {
+        PENDING,
+        RUNNING,
+        DONE,
+        FAILED
+    }
+
+    private record JobKey(LocalDate startDate, LocalDate endDate, Set<Long> itemIds, ClientStatus status) {
+
+        static JobKey of(ExportFilterDTO exportFilterDTO) {
+            return new JobKey(
+                    exportFilterDTO.getStartDate(),
+                    exportFilterDTO.getEndDate(),
+                    exportFilterDTO.getItemIds() != null ? Set.copyOf(exportFilterDTO.getItemIds()) : Set.of(),
+                    exportFilterDTO.getStatus());
+        }
+    }
+
+    private static final class ExportJob {
+        private final String id = UUID.randomUUID().toString();
+        private final JobKey key;
+        private final Path file;
+        private final Instant createdAt = Instant.now();
+        private final AtomicLong processedRows = new AtomicLong();
+        private volatile long totalRows;
+        private volatile Instant finishedAt;
+        private volatile String error;
+        private volatile Status status = Status.PENDING;
+
+        private ExportJob(JobKey key, Path directory) {
+            this.key = key;
+            this.file = directory.resolve(id + ".xlsx");
+        }
+
+        private boolean isFinished() {
+            return status == Status.DONE || status == Status.FAILED;
+        }
+    }
+
+    private final ReportExportService reportExportService;
+    private final ThreadPoolExecutor executor;
+    private final Path exportDir;
+    private final Duration ttl;
+
+    private final Map<String, ExportJob> jobs = new ConcurrentHashMap<>();
+    private final Map<JobKey, ExportJob> jobsByKey = new ConcurrentHashMap<>();
+
+    public ExportJobService(ReportExportService reportExportService,
+                            @Value("${file.upload-dir}") String uploadDir,
+                            @Value("${export.jobs.threads:2}") int threads,
+                            @Value("${export.jobs.queue-capacity:20}") int queueCapacity,
+                            @Value("${export.jobs.ttl:PT15M}") Duration ttl) {
+        this.reportExportService = reportExportService;
+        this.executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                Thread.ofPlatform().name("export-", 0).factory());
+        this.exportDir = Paths.get(uploadDir, "exports");
+        this.ttl = ttl;
+    }
+
+    // Identical filters share one job while it is running or its file is still on disk.
+    public ExportJobResponseDTO submit(ExportFilterDTO exportFilterDTO) {
+        ExportJob candidate = new ExportJob(JobKey.of(exportFilterDTO), exportDir);
+        ExportJob job = jobsByKey.merge(candidate.key, candidate,
+                (existing, fresh) -> existing.status == Status.FAILED ? fresh : existing);
+
+        if (job == candidate) {
+            jobs.put(job.id, job);
+            try {
+                executor.execute(() -> run(job, exportFilterDTO));
+            } catch (RejectedExecutionException e) {
+                jobs.remove(job.id);
+                jobsByKey.remove(job.key, job);
+                throw new IllegalStateException("Too many exports in progress, try again later");
+            }
+        }
+        return toExportJobResponseDTO(job);
+    }
+
+    public Optional<ExportJobResponseDTO> findById(String id) {
+        return Optional.ofNullable(jobs.get(id)).map(this::toExportJobResponseDTO);
+    }
+
+    public Optional<Path> findFile(String id) {
+        return Optional.ofNullable(jobs.get(id))
+                .filter(job -> job.status == Status.DONE)
+                .map(job -> job.file);
+    }
+
+    @Scheduled(fixedDelayString = "${export.jobs.cleanup-interval-ms:60000}")
+    public void removeExpired() {
+        Instant cutoff = Instant.now().minus(ttl);
+        jobs.values().removeIf(job -> {
+            if (!job.isFinished() || job.finishedAt.isAfter(cutoff)) {
+                return false;
+            }
+            jobsByKey.remove(job.key, job);
+            deleteQuietly(job.file);
+            return true;
+        });
+
+        // Files left behind by a previous run are no longer tracked by any job.
+        if (Files.isDirectory(exportDir)) {
+            try (Stream<Path> files = Files.list(exportDir)) {
+                files.filter(file -> !isTracked(file) && isOlderThan(file, cutoff)).forEach(this::deleteQuietly);
+            } catch (IOException e) {
+                logger.warn("Could not sweep export directory {}", exportDir, e);
+            }
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private void run(ExportJob job, ExportFilterDTO exportFilterDTO) {
+        job.status = Status.RUNNING;
+        Path partial = job.file.resolveSibling(job.id + ".part");
+        try {
+            Files.createDirectories(exportDir);
+            try (OutputStream out = Files.newOutputStream(partial)) {
+                reportExportService.export(exportFilterDTO, out, new ReportExportService.Progress() {
+                    @Override
+                    public void started(long totalOrders) {
+                        job.totalRows = totalOrders;
+                    }
+
+                    @Override
+                    public void orderWritten() {
+                        job.processedRows.incrementAndGet();
+                    }
+                });
+            }
+            Files.move(partial, job.file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            job.finishedAt = Instant.now();
+            job.status = Status.DONE;
+        } catch (Exception e) {
+            logger.error("Export job {} failed", job.id, e);
+            deleteQuietly(partial);
+            job.error = e.getMessage();
+            job.finishedAt = Instant.now();
+            job.status = Status.FAILED;
+        }
+    }
+
+    private boolean isTracked(Path file) {
+        String name = file.getFileName().toString();
+        int extension = name.indexOf('.');
+        return jobs.containsKey(extension < 0 ? name : name.substring(0, extension));
+    }
+
+    private boolean isOlderThan(Path file, Instant cutoff) {
+        try {
+            return Files.getLastModifiedTime(file).toInstant().isBefore(cutoff);
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    private void deleteQuietly(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            logger.warn("Could not delete export file {}", file, e);
+        }
+    }
+
+    private ExportJobResponseDTO toExportJobResponseDTO(ExportJob job) {
+        ExportJobResponseDTO exportJobResponseDTO = new ExportJobResponseDTO();
+        exportJobResponseDTO.setId(job.id);
+        exportJobResponseDTO.setStatus(job.status.name());
+        exportJobResponseDTO.setProcessedRows(job.processedRows.get());
+        exportJobResponseDTO.setTotalRows(job.totalRows);
+        exportJobResponseDTO.setCreatedAt(LocalDateTime.ofInstant(job.createdAt, ZoneId.systemDefault()));
+        Instant finishedAt = job.finishedAt;
+        if (finishedAt != null) {
+            exportJobResponseDTO.setFinishedAt(LocalDateTime.ofInstant(finishedAt, ZoneId.systemDefault()));
+        }
+        exportJobResponseDTO.setError(job.error);
+        return exportJobResponseDTO;
+    }
+}
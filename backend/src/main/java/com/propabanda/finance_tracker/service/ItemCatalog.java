@@ -0,0 +1,100 @@
+package com.propabanda.finance_tracker.service;
+
+import com.propabanda.finance_tracker.dto.response.ItemResponseDTO;
+import com.propabanda.finance_tracker.repository.ItemRepository;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.util.DigestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+
+// The whole item table held in memory. Every change through the application swaps in a freshly
+// loaded snapshot, so lookups never query the database and readers never see a half-built map.
+@Component
+public class ItemCatalog {
+
+    public record Entry(Long id, String name) {
+    }
+
+    private record Snapshot(List<Entry> items, Map<Long, Entry> byId, Map<String, Entry> byName, String etag) {
+
+        static Snapshot of(List<ItemResponseDTO> rows) {
+            List<Entry> items = rows.stream().map(row -> new Entry(row.getId(), row.getName())).toList();
+            Map<Long, Entry> byId = new HashMap<>();
+            Map<String, Entry> byName = new HashMap<>();
+            StringBuilder content = new StringBuilder();
+            for (Entry entry : items) {
+                byId.put(entry.id(), entry);
+                // Rows come ordered by id, so names differing only in case resolve to the oldest item.
+                byName.putIfAbsent(entry.name().toLowerCase(Locale.ROOT), entry);
+                content.append(entry.id()).append(':').append(entry.name()).append('\n');
+            }
+            String etag = '"' + DigestUtils.md5DigestAsHex(content.toString().getBytes(StandardCharsets.UTF_8)) + '"';
+            return new Snapshot(items, Map.copyOf(byId), Map.copyOf(byName), etag);
+        }
+    }
+
+    private final ItemRepository itemRepository;
+    private volatile Snapshot snapshot;
+
+    public ItemCatalog(ItemRepository itemRepository) {
+        this.itemRepository = itemRepository;
+    }
+
+    public List<Entry> findAll() {
+        return snapshot().items();
+    }
+
+    public Optional<Entry> findById(Long id) {
+        return Optional.ofNullable(snapshot().byId().get(id));
+    }
+
+    public Optional<Entry> findByNameIgnoreCase(String name) {
+        return Optional.ofNullable(snapshot().byName().get(name.toLowerCase(Locale.ROOT)));
+    }
+
+    // Changes whenever the id/name list does; identical across restarts for identical content.
+    public String etag() {
+        return snapshot().etag();
+    }
+
+    // Inside a transaction the reload waits until it ends: loading earlier would publish uncommitted
+    // items to other threads, which could then link orders to rows that may still roll back.
+    public void refresh() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    reload();
+                }
+            });
+        } else {
+            reload();
+        }
+    }
+
+    private Snapshot snapshot() {
+        Snapshot current = snapshot;
+        if (current == null) {
+            synchronized (this) {
+                current = snapshot;
+                if (current == null) {
+                    current = reload();
+                }
+            }
+        }
+        return current;
+    }
+
+    private synchronized Snapshot reload() {
+        Snapshot loaded = Snapshot.of(itemRepository.findAllResponses());
+        snapshot = loaded;
+        return loaded;
+    }
+}
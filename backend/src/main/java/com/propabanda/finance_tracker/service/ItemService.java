@@ -1,56 +1,88 @@
 package com.propabanda.finance_tracker.service;
 
+import com.propabanda.finance_tracker.dto.projection.EmissionRange;
 import com.propabanda.finance_tracker.dto.request.ItemRequestDTO;
 import com.propabanda.finance_tracker.dto.response.ItemResponseDTO;
 import com.propabanda.finance_tracker.model.Item;
+import com.propabanda.finance_tracker.model.Order;
 import com.propabanda.finance_tracker.repository.ItemRepository;
+import com.propabanda.finance_tracker.repository.OrderRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.Cache;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.Optional;
-import java.util.stream.Collectors;
 
 @Service
 public class ItemService {
 
     private final ItemRepository itemRepository;
+    private final OrderRepository orderRepository;
+    private final DailyRevenueService dailyRevenueService;
+    private final DashboardCache dashboardCache;
+    private final ItemCatalog itemCatalog;
+    private final EntityManagerFactory entityManagerFactory;
 
-    public ItemService(ItemRepository itemRepository) {
+    public ItemService(ItemRepository itemRepository, OrderRepository orderRepository,
+                       DailyRevenueService dailyRevenueService,
+                       DashboardCache dashboardCache, ItemCatalog itemCatalog,
+                       EntityManagerFactory entityManagerFactory) {
         this.itemRepository = itemRepository;
+        this.orderRepository = orderRepository;
+        this.dailyRevenueService = dailyRevenueService;
+        this.dashboardCache = dashboardCache;
+        this.itemCatalog = itemCatalog;
+        this.entityManagerFactory = entityManagerFactory;
     }
 
     public List<ItemResponseDTO> findAll() {
-        return itemRepository.findAll().stream()
-                .map(this::toItemResponseDTO)
-                .collect(Collectors.toList());
+        return itemCatalog.findAll().stream().map(this::toItemResponseDTO).toList();
     }
 
-    public Optional<ItemResponseDTO> findById(Long id) {
-        return itemRepository.findById(id).map(this::toItemResponseDTO);
+    public String catalogEtag() {
+        return itemCatalog.etag();
     }
 
-    public Optional<Item> findModelById(Long id) {
-        return itemRepository.findById(id);
+    public Optional<ItemResponseDTO> findById(Long id) {
+        return itemCatalog.findById(id).map(this::toItemResponseDTO);
     }
 
     public ItemResponseDTO save(ItemRequestDTO itemRequestDTO) {
         Item item = new Item();
         item.setName(itemRequestDTO.getName());
-        return toItemResponseDTO(itemRepository.save(item));
+        ItemResponseDTO itemResponseDTO = toItemResponseDTO(itemRepository.save(item));
+        itemCatalog.refresh();
+        return itemResponseDTO;
     }
 
     public ItemResponseDTO update(Long id, ItemRequestDTO itemRequestDTO) {
         Item item = itemRepository.findById(id).orElseThrow();
         item.setName(itemRequestDTO.getName());
-        return toItemResponseDTO(itemRepository.save(item));
+        ItemResponseDTO itemResponseDTO = toItemResponseDTO(itemRepository.save(item));
+        itemCatalog.refresh();
+        dashboardCache.invalidateAll();
+        return itemResponseDTO;
     }
 
+    // Dropping an item removes its order links, which changes every affected order's per-item share,
+    // so only the days of those orders are refreshed. The links go through the database cascade,
+    // so cached order item lists are dropped as well.
+    @Transactional
     public void delete(Long id) {
+        EmissionRange emissionRange = orderRepository.findEmissionRangeByItemId(id);
         itemRepository.deleteById(id);
+        entityManagerFactory.getCache().unwrap(Cache.class).evictCollectionData(Order.class.getName() + ".items");
+        itemCatalog.refresh();
+        if (emissionRange.first() != null) {
+            dailyRevenueService.refresh(emissionRange.first(), emissionRange.last());
+            dashboardCache.invalidate(emissionRange.first(), emissionRange.last(), null);
+        }
     }
 
     public boolean existsByName(String name) {
-        return itemRepository.existsByName(name);
+        return itemCatalog.findAll().stream().anyMatch(entry -> entry.name().equals(name));
     }
 
     private ItemResponseDTO toItemResponseDTO(Item item) {
@@ -59,4 +91,8 @@ public class ItemService {
         itemResponseDTO.setName(item.getName());
         return itemResponseDTO;
     }
+
+    private ItemResponseDTO toItemResponseDTO(ItemCatalog.Entry entry) {
+        return new ItemResponseDTO(entry.id(), entry.name());
+    }
 }
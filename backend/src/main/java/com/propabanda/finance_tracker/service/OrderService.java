@@ -2,18 +2,32 @@ package com.propabanda.finance_tracker.service;
 
 import com.propabanda.finance_tracker.dto.ClientOrderFilterDTO;
 import com.propabanda.finance_tracker.dto.OrderFilterDTO;
+import com.propabanda.finance_tracker.dto.projection.OrderExportRow;
+import com.propabanda.finance_tracker.dto.projection.OrderItemRow;
+import com.propabanda.finance_tracker.dto.projection.OrderRow;
+import com.propabanda.finance_tracker.dto.request.OrderBatchRequestDTO;
 import com.propabanda.finance_tracker.dto.request.OrderRequestDTO;
+import com.propabanda.finance_tracker.dto.response.CursorPageResponseDTO;
 import com.propabanda.finance_tracker.dto.response.ItemResponseDTO;
+import com.propabanda.finance_tracker.dto.response.OrderBatchResultDTO;
 import com.propabanda.finance_tracker.dto.response.OrderResponseDTO;
+import com.propabanda.finance_tracker.dto.response.PageResponseDTO;
 import com.propabanda.finance_tracker.model.Client;
 import com.propabanda.finance_tracker.model.Item;
 import com.propabanda.finance_tracker.model.Order;
 import com.propabanda.finance_tracker.repository.ClientRepository;
 import com.propabanda.finance_tracker.repository.ItemRepository;
 import com.propabanda.finance_tracker.repository.OrderRepository;
-import jakarta.transaction.Transactional;
+import com.propabanda.finance_tracker.repository.OrderSpecifications;
+import com.propabanda.finance_tracker.util.CursorCodec;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.File;
@@ -25,29 +39,56 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.nio.file.StandardCopyOption;
+import java.time.LocalDate;
 import java.util.*;
+import java.util.function.Function;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Service
 public class OrderService {
 
+    private static final int MAX_PAGE_SIZE = 500;
+    private static final int DEFAULT_SCROLL_SIZE = 50;
+    private static final int MAX_BATCH_SIZE = 1000;
+    private static final LocalDate MIN_DATE = LocalDate.of(1, 1, 1);
+    private static final LocalDate MAX_DATE = LocalDate.of(9999, 12, 31);
+
     private final OrderRepository orderRepository;
     private final ClientRepository clientRepository;
     private final ItemRepository itemRepository;
+    private final DailyRevenueService dailyRevenueService;
+    private final DashboardCache dashboardCache;
+    private final Validator validator;
+    private final ItemCatalog itemCatalog;
 
     @Value("${file.upload-dir}")
     private String uploadDir;
 
     public OrderService(OrderRepository orderRepository, ClientRepository clientRepository,
-            ItemRepository itemRepository) {
+            ItemRepository itemRepository, DailyRevenueService dailyRevenueService,
+            DashboardCache dashboardCache, Validator validator,
+            ItemCatalog itemCatalog) {
         this.orderRepository = orderRepository;
         this.clientRepository = clientRepository;
         this.itemRepository = itemRepository;
+        this.dailyRevenueService = dailyRevenueService;
+        this.dashboardCache = dashboardCache;
+        this.validator = validator;
+        this.itemCatalog = itemCatalog;
     }
 
+    @Transactional(readOnly = true)
     public List<OrderResponseDTO> findAll() {
-        return orderRepository.findAll().stream()
-                .map(this::toOrderResponseDTO)
+        Map<Long, Set<ItemResponseDTO>> itemsByOrder = new HashMap<>();
+        for (OrderItemRow orderItemRow : orderRepository.findAllItemRows()) {
+            itemsByOrder.computeIfAbsent(orderItemRow.orderId(), orderId -> new HashSet<>())
+                    .add(new ItemResponseDTO(orderItemRow.itemId(), orderItemRow.itemName()));
+        }
+
+        return orderRepository.findAllRows().stream()
+                .map(orderRow -> toOrderResponseDTO(
+                        orderRow, itemsByOrder.getOrDefault(orderRow.id(), new HashSet<>())))
                 .toList();
     }
 
@@ -59,121 +100,220 @@ public class OrderService {
         return orderRepository.findById(id);
     }
 
+    @Transactional
     public OrderResponseDTO save(OrderRequestDTO orderRequestDTO) {
         Order order = orderRepository.save(toOrderModel(orderRequestDTO));
+        onRevenueChanged(order.getEmissionDate(), itemIdsOf(order));
         return toOrderResponseDTO(order);
     }
 
+    @Transactional
     public OrderResponseDTO update(Long id, OrderRequestDTO orderRequestDTO) {
 
         Order order = orderRepository.findById(id)
                 .orElseThrow(() -> new IllegalArgumentException("Order not found"));
+        LocalDate previousEmissionDate = order.getEmissionDate();
+        Set<Long> previousItemIds = itemIdsOf(order);
 
-        order.setValue(orderRequestDTO.getValue());
-        order.setContractStartDate(orderRequestDTO.getContractStartDate());
-        order.setContractEndDate(orderRequestDTO.getContractEndDate());
-        order.setInstallmentDay(orderRequestDTO.getInstallmentDay());
-        order.setInstallmentCount(orderRequestDTO.getInstallmentCount());
-        order.setDiscount(orderRequestDTO.getDiscount());
-        order.setEmissionDate(orderRequestDTO.getEmissionDate());
-        order.setPaidInstallmentsCount(orderRequestDTO.getPaidInstallmentsCount());
-        order.setContractFilePath(orderRequestDTO.getContractFilePath());
+        applyFields(order, orderRequestDTO);
 
-        Set<Item> items = orderRequestDTO.getItems().stream()
-                .map(itemId -> itemRepository.findById(itemId)
-                        .orElseThrow(() -> new IllegalArgumentException("Item id " + itemId + " not found")))
-                .collect(Collectors.toSet());
-        order.setItems(items);
+        order.setItems(resolveItems(orderRequestDTO.getItems()));
 
-        return toOrderResponseDTO(orderRepository.save(order));
+        Order saved = orderRepository.save(order);
+        onRevenueChanged(previousEmissionDate, previousItemIds);
+        onRevenueChanged(saved.getEmissionDate(), itemIdsOf(saved));
+        return toOrderResponseDTO(saved);
     }
 
-    private String buildIdentifier(Order order) {
-        return "ORD-" + order.getEmissionDate().getYear()
-                + String.format("-%06d", order.getId());
-    }
-
-    public void delete(Long id) {
-        orderRepository.deleteById(id);
-    }
+    // Creates or updates every valid entry in one transaction; invalid entries are reported and skipped.
+    // Clients and existing orders are loaded with one query each, items come from the catalog,
+    // and the writes go out as JDBC batches.
+    @Transactional
+    public List<OrderBatchResultDTO> saveAll(List<OrderBatchRequestDTO> orderBatchRequestDTOs) {
+        if (orderBatchRequestDTOs.size() > MAX_BATCH_SIZE) {
+            throw new IllegalArgumentException("At most " + MAX_BATCH_SIZE + " orders per batch");
+        }
 
-    public List<OrderResponseDTO> findAllFiltered(OrderFilterDTO orderFilterDTO) {
+        Set<Long> clientIds = new HashSet<>();
+        Set<Long> itemIds = new HashSet<>();
+        Set<Long> orderIds = new HashSet<>();
+        for (OrderBatchRequestDTO orderBatchRequestDTO : orderBatchRequestDTOs) {
+            if (orderBatchRequestDTO == null) continue;
+            if (orderBatchRequestDTO.getClientId() != null) clientIds.add(orderBatchRequestDTO.getClientId());
+            if (orderBatchRequestDTO.getItems() != null) itemIds.addAll(orderBatchRequestDTO.getItems());
+            if (orderBatchRequestDTO.getId() != null) orderIds.add(orderBatchRequestDTO.getId());
+        }
+        itemIds.remove(null);
+        Map<Long, Client> clients = clientRepository.findAllById(clientIds).stream()
+                .collect(Collectors.toMap(Client::getId, Function.identity()));
+        Map<Long, Item> items = itemIds.stream()
+                .filter(itemId -> itemCatalog.findById(itemId).isPresent())
+                .collect(Collectors.toMap(Function.identity(), itemRepository::getReferenceById));
+        Map<Long, Order> existingOrders = orderRepository.findAllById(orderIds).stream()
+                .collect(Collectors.toMap(Order::getId, Function.identity()));
+
+        List<OrderBatchResultDTO> results = new ArrayList<>(orderBatchRequestDTOs.size());
+        List<OrderBatchResultDTO> savedResults = new ArrayList<>();
+        List<Order> ordersToSave = new ArrayList<>();
+        List<LocalDate> changedDates = new ArrayList<>();
+        Set<Long> changedItemIds = new HashSet<>();
+        for (int index = 0; index < orderBatchRequestDTOs.size(); index++) {
+            OrderBatchRequestDTO orderBatchRequestDTO = orderBatchRequestDTOs.get(index);
+            OrderBatchResultDTO orderBatchResultDTO = new OrderBatchResultDTO();
+            orderBatchResultDTO.setIndex(index);
+            results.add(orderBatchResultDTO);
+
+            String error = validateBatchEntry(orderBatchRequestDTO, clients, items, existingOrders);
+            if (error != null) {
+                orderBatchResultDTO.setStatus("FAILED");
+                orderBatchResultDTO.setError(error);
+                continue;
+            }
 
-        List<Order> orderList = orderRepository.findAll();
+            Order order;
+            if (orderBatchRequestDTO.getId() == null) {
+                order = new Order();
+                order.setClient(clients.get(orderBatchRequestDTO.getClientId()));
+                orderBatchResultDTO.setStatus("CREATED");
+            } else {
+                order = existingOrders.get(orderBatchRequestDTO.getId());
+                changedDates.add(order.getEmissionDate());
+                changedItemIds.addAll(itemIdsOf(order));
+                orderBatchResultDTO.setStatus("UPDATED");
+            }
+            applyFields(order, orderBatchRequestDTO);
+            order.setItems(orderBatchRequestDTO.getItems().stream().map(items::get).collect(Collectors.toSet()));
+            changedDates.add(order.getEmissionDate());
+            changedItemIds.addAll(orderBatchRequestDTO.getItems());
 
-        if (orderFilterDTO.getSearch() != null && !orderFilterDTO.getSearch().isBlank()) {
-            String term = orderFilterDTO.getSearch().toLowerCase();
-            orderList = orderList.stream()
-                    .filter(order -> order.getClient().getName().toLowerCase().contains(term))
-                    .toList();
+            ordersToSave.add(order);
+            savedResults.add(orderBatchResultDTO);
         }
 
-        if (orderFilterDTO.getStartDate() != null) {
-            orderList = orderList.stream()
-                    .filter(order -> !order.getEmissionDate().isBefore(orderFilterDTO.getStartDate()))
-                    .toList();
+        List<Order> savedOrders = orderRepository.saveAllAndFlush(ordersToSave);
+        for (int i = 0; i < savedOrders.size(); i++) {
+            savedResults.get(i).setOrder(toOrderResponseDTO(savedOrders.get(i)));
         }
-        if (orderFilterDTO.getEndDate() != null) {
-            orderList = orderList.stream()
-                    .filter(order -> !order.getEmissionDate().isAfter(orderFilterDTO.getEndDate()))
-                    .toList();
+        if (!changedDates.isEmpty()) {
+            LocalDate first = Collections.min(changedDates);
+            LocalDate last = Collections.max(changedDates);
+            dailyRevenueService.refresh(first, last);
+            dashboardCache.invalidate(first, last, changedItemIds);
         }
+        return results;
+    }
 
-        if (orderFilterDTO.getItemIds() != null && !orderFilterDTO.getItemIds().isEmpty()) {
-            orderList = orderList.stream()
-                    .filter(order -> order.getItems().stream()
-                            .anyMatch(item -> orderFilterDTO.getItemIds().contains(item.getId())))
-                    .toList();
+    // Same checks and messages as the single-order endpoints, reported per entry instead of thrown.
+    private String validateBatchEntry(OrderBatchRequestDTO orderBatchRequestDTO,
+                                      Map<Long, Client> clients,
+                                      Map<Long, Item> items,
+                                      Map<Long, Order> existingOrders) {
+        if (orderBatchRequestDTO == null) {
+            return "Entry must not be null";
         }
-
-        Comparator<Order> comparator = "emissionDate".equalsIgnoreCase(orderFilterDTO.getSortBy())
-                ? Comparator.comparing(Order::getEmissionDate)
-                : Comparator.comparing(order -> order.getClient().getName(), String.CASE_INSENSITIVE_ORDER);
-
-        if ("desc".equalsIgnoreCase(orderFilterDTO.getDirection())) {
-            comparator = comparator.reversed();
+        Set<ConstraintViolation<OrderBatchRequestDTO>> violations = validator.validate(orderBatchRequestDTO);
+        if (!violations.isEmpty()) {
+            return violations.stream()
+                    .map(ConstraintViolation::getMessage)
+                    .sorted()
+                    .collect(Collectors.joining(" "));
+        }
+        if (orderBatchRequestDTO.getId() != null) {
+            if (!existingOrders.containsKey(orderBatchRequestDTO.getId())) {
+                return "Order not found";
+            }
+        } else if (!clients.containsKey(orderBatchRequestDTO.getClientId())) {
+            return "Client not found";
         }
+        List<Long> missingItemIds = orderBatchRequestDTO.getItems().stream()
+                .filter(itemId -> !items.containsKey(itemId))
+                .toList();
+        return missingItemIds.isEmpty() ? null : missingItemsMessage(missingItemIds);
+    }
 
-        orderList = orderList.stream().sorted(comparator).toList();
+    private String buildIdentifier(Order order) {
+        return "ORD-" + order.getEmissionDate().getYear()
+                + String.format("-%06d", order.getId());
+    }
 
-        return orderList.stream()
-                .map(this::toOrderResponseDTO)
-                .toList();
+    @Transactional
+    public void delete(Long id) {
+        orderRepository.findById(id).ifPresent(order -> {
+            Set<Long> itemIds = itemIdsOf(order);
+            orderRepository.delete(order);
+            onRevenueChanged(order.getEmissionDate(), itemIds);
+        });
     }
 
-    public List<OrderResponseDTO> findByClientFiltered(
-            Long clientId,
-            ClientOrderFilterDTO clientOrderFilterDTO) {
-        List<Order> orderList = orderRepository.findAll()
-                .stream()
-                .filter(o -> o.getClient().getId().equals(clientId))
-                .toList();
+    private void onRevenueChanged(LocalDate emissionDate, Set<Long> itemIds) {
+        dailyRevenueService.refresh(emissionDate);
+        dashboardCache.invalidate(emissionDate, itemIds);
+    }
 
-        if (clientOrderFilterDTO.getSearch() != null && !clientOrderFilterDTO.getSearch().isBlank()) {
-            String term = clientOrderFilterDTO.getSearch().toLowerCase();
-            orderList = orderList.stream()
-                    .filter(o -> o.getIdentifier().toLowerCase().contains(term))
-                    .toList();
-        }
+    private static Set<Long> itemIdsOf(Order order) {
+        return order.getItems().stream().map(Item::getId).collect(Collectors.toSet());
+    }
 
-        Comparator<Order> comparator;
-        switch (clientOrderFilterDTO.getSortBy()) {
-            case "id" -> comparator = Comparator.comparing(Order::getId);
-            case "itemName" -> comparator = Comparator.comparing(
-                    order -> order.getItems().stream().findFirst().map(Item::getName).orElse(""),
-                    String.CASE_INSENSITIVE_ORDER);
-            default -> comparator = Comparator.comparing(Order::getEmissionDate);
+    public PageResponseDTO<OrderResponseDTO> findAllFiltered(OrderFilterDTO orderFilterDTO) {
+        Page<Order> orderPage = orderRepository.findAll(
+                OrderSpecifications.filtered(orderFilterDTO),
+                toPageable(orderFilterDTO.getPage(), orderFilterDTO.getSize()));
+        return PageResponseDTO.of(orderPage, this::toOrderResponseDTO);
+    }
+
+    public CursorPageResponseDTO<OrderResponseDTO> scrollFiltered(
+            OrderFilterDTO orderFilterDTO,
+            String cursor,
+            Integer size) {
+        int limit = size != null ? Math.max(1, Math.min(size, MAX_PAGE_SIZE)) : DEFAULT_SCROLL_SIZE;
+        String sortKey = OrderSpecifications.sortKey(orderFilterDTO);
+        CursorCodec.Cursor after = cursor != null && !cursor.isBlank()
+                ? CursorCodec.decode(cursor, sortKey, OrderSpecifications.sortValueParser(sortKey))
+                : null;
+
+        List<Order> orderList = orderRepository.findBy(
+                OrderSpecifications.filtered(orderFilterDTO, after),
+                query -> query.project("client").limit(limit + 1).all());
+
+        boolean hasNext = orderList.size() > limit;
+        if (hasNext) {
+            orderList = orderList.subList(0, limit);
         }
 
-        if ("desc".equalsIgnoreCase(clientOrderFilterDTO.getDirection())) {
-            comparator = comparator.reversed();
+        CursorPageResponseDTO<OrderResponseDTO> cursorPageResponseDTO = new CursorPageResponseDTO<>();
+        cursorPageResponseDTO.setContent(orderList.stream().map(this::toOrderResponseDTO).toList());
+        cursorPageResponseDTO.setSize(limit);
+        cursorPageResponseDTO.setHasNext(hasNext);
+        if (hasNext) {
+            Order last = orderList.get(orderList.size() - 1);
+            cursorPageResponseDTO.setNextCursor(CursorCodec.encode(
+                    sortKey, last.getId(), OrderSpecifications.sortValue(last, sortKey)));
         }
+        return cursorPageResponseDTO;
+    }
 
-        orderList = orderList.stream().sorted(comparator).toList();
+    // One forward-only query in emission date order, fetched EXPORT_FETCH_SIZE rows at a time; the
+    // caller must close the stream and hold a transaction. Sorting options of the filter are ignored.
+    public Stream<OrderResponseDTO> streamFiltered(OrderFilterDTO orderFilterDTO) {
+        LocalDate start = orderFilterDTO.getStartDate() != null ? orderFilterDTO.getStartDate() : MIN_DATE;
+        LocalDate end = orderFilterDTO.getEndDate() != null ? orderFilterDTO.getEndDate() : MAX_DATE;
+        Stream<OrderExportRow> rows = orderFilterDTO.getItemIds() != null && !orderFilterDTO.getItemIds().isEmpty()
+                ? orderRepository.streamExportRows(start, end, orderFilterDTO.getItemIds())
+                : orderRepository.streamExportRows(start, end);
+        return rows.map(row -> {
+            OrderResponseDTO orderResponseDTO = toOrderResponseDTO(row);
+            orderResponseDTO.setItems(exportRowItems(row));
+            return orderResponseDTO;
+        });
+    }
 
-        return orderList.stream()
-                .map(this::toOrderResponseDTO)
-                .toList();
+    public PageResponseDTO<OrderResponseDTO> findByClientFiltered(
+            Long clientId,
+            ClientOrderFilterDTO clientOrderFilterDTO) {
+        Page<Order> orderPage = orderRepository.findAll(
+                OrderSpecifications.forClient(clientId, clientOrderFilterDTO),
+                toPageable(clientOrderFilterDTO.getPage(), clientOrderFilterDTO.getSize()));
+        return PageResponseDTO.of(orderPage, this::toOrderResponseDTO);
     }
 
     @Transactional
@@ -235,6 +375,16 @@ public class OrderService {
         }
     }
 
+    private Pageable toPageable(Integer page, Integer size) {
+        if (size == null) {
+            return Pageable.unpaged();
+        }
+        if (size < 1 || (page != null && page < 0)) {
+            throw new IllegalArgumentException("page must be at least 0 and size at least 1");
+        }
+        return PageRequest.of(page != null ? page : 0, Math.min(size, MAX_PAGE_SIZE));
+    }
+
     private Order toOrderModel(OrderRequestDTO orderRequestDTO) {
 
         Client client = clientRepository.findById(orderRequestDTO.getClientId())
@@ -242,6 +392,32 @@ public class OrderService {
 
         Order order = new Order();
         order.setClient(client);
+        applyFields(order, orderRequestDTO);
+
+        order.setItems(resolveItems(orderRequestDTO.getItems()));
+        return order;
+    }
+
+    // Checks the ids against the item catalog and links uninitialized references, so no item row is read.
+    // Every id that does not exist is named in the error.
+    private Set<Item> resolveItems(Set<Long> itemIds) {
+        List<Long> missingIds = itemIds.stream()
+                .filter(itemId -> itemCatalog.findById(itemId).isEmpty())
+                .toList();
+        if (!missingIds.isEmpty()) {
+            throw new IllegalArgumentException(missingItemsMessage(missingIds));
+        }
+        return itemIds.stream().map(itemRepository::getReferenceById).collect(Collectors.toSet());
+    }
+
+    private static String missingItemsMessage(List<Long> missingIds) {
+        if (missingIds.size() == 1) {
+            return "Item id " + missingIds.get(0) + " not found";
+        }
+        return "Item ids " + missingIds.stream().map(String::valueOf).collect(Collectors.joining(", ")) + " not found";
+    }
+
+    private static void applyFields(Order order, OrderRequestDTO orderRequestDTO) {
         order.setValue(orderRequestDTO.getValue());
         order.setContractStartDate(orderRequestDTO.getContractStartDate());
         order.setContractEndDate(orderRequestDTO.getContractEndDate());
@@ -251,27 +427,9 @@ public class OrderService {
         order.setEmissionDate(orderRequestDTO.getEmissionDate());
         order.setPaidInstallmentsCount(orderRequestDTO.getPaidInstallmentsCount());
         order.setContractFilePath(orderRequestDTO.getContractFilePath());
-
-        Set<Item> itemSet = orderRequestDTO.getItems().stream()
-                .map(itemId -> itemRepository.findById(itemId)
-                        .orElseThrow(() -> new IllegalArgumentException("Item id " + itemId + " not found")))
-                .collect(Collectors.toSet());
-
-        order.setItems(itemSet);
-        return order;
     }
 
     OrderResponseDTO toOrderResponseDTO(Order order) {
-        BigDecimal totalValue = order.getValue();
-        BigDecimal discountPercent = order.getDiscount()
-                .divide(BigDecimal.valueOf(100), 2, RoundingMode.HALF_UP);
-        BigDecimal discountedValue = totalValue.subtract(totalValue.multiply(discountPercent));
-        BigDecimal installmentValue = discountedValue
-                .divide(BigDecimal.valueOf(order.getInstallmentCount()), 2, RoundingMode.HALF_UP);
-        BigDecimal paidValue = installmentValue
-                .multiply(BigDecimal.valueOf(order.getPaidInstallmentsCount()));
-        BigDecimal remainingValue = discountedValue.subtract(paidValue);
-
         OrderResponseDTO orderResponseDTO = new OrderResponseDTO();
         orderResponseDTO.setId(order.getId());
         orderResponseDTO.setIdentifier(order.getIdentifier());
@@ -285,16 +443,90 @@ public class OrderService {
         orderResponseDTO.setEmissionDate(order.getEmissionDate());
         orderResponseDTO.setPaidInstallmentsCount(order.getPaidInstallmentsCount());
         orderResponseDTO.setContractFilePath(order.getContractFilePath());
-        orderResponseDTO.setValue(totalValue);
-        orderResponseDTO.setDiscountedValue(discountedValue);
-        orderResponseDTO.setPaidValue(paidValue);
-        orderResponseDTO.setRemainingValue(remainingValue);
+        applyValues(orderResponseDTO, order.getValue());
+        // Names come from the catalog so item references linked by resolveItems are never initialized.
         orderResponseDTO.setItems(order.getItems().stream().map(item -> {
             ItemResponseDTO itemResponseDTO = new ItemResponseDTO();
             itemResponseDTO.setId(item.getId());
-            itemResponseDTO.setName(item.getName());
+            itemResponseDTO.setName(itemCatalog.findById(item.getId())
+                    .map(ItemCatalog.Entry::name)
+                    .orElseGet(item::getName));
             return itemResponseDTO;
         }).collect(Collectors.toSet()));
         return orderResponseDTO;
     }
+
+    private OrderResponseDTO toOrderResponseDTO(OrderRow orderRow, Set<ItemResponseDTO> items) {
+        OrderResponseDTO orderResponseDTO = new OrderResponseDTO();
+        orderResponseDTO.setId(orderRow.id());
+        orderResponseDTO.setIdentifier(orderRow.identifier());
+        orderResponseDTO.setClientId(orderRow.clientId());
+        orderResponseDTO.setClientName(orderRow.clientName());
+        orderResponseDTO.setContractStartDate(orderRow.contractStartDate());
+        orderResponseDTO.setContractEndDate(orderRow.contractEndDate());
+        orderResponseDTO.setInstallmentDay(orderRow.installmentDay());
+        orderResponseDTO.setInstallmentCount(orderRow.installmentCount());
+        orderResponseDTO.setDiscount(orderRow.discount());
+        orderResponseDTO.setEmissionDate(orderRow.emissionDate());
+        orderResponseDTO.setPaidInstallmentsCount(orderRow.paidInstallmentsCount());
+        orderResponseDTO.setContractFilePath(orderRow.contractFilePath());
+        applyValues(orderResponseDTO, orderRow.value());
+        orderResponseDTO.setItems(items);
+        return orderResponseDTO;
+    }
+
+    // Ids and names are aggregated in the same order. Names come from the catalog as in
+    // toOrderResponseDTO(Order); the aggregated name is only a fallback, and only usable when no
+    // name contains the ", " separator.
+    private Set<ItemResponseDTO> exportRowItems(OrderExportRow orderExportRow) {
+        Set<ItemResponseDTO> items = new LinkedHashSet<>();
+        if (orderExportRow.itemIds() == null) {
+            return items;
+        }
+        String[] ids = orderExportRow.itemIds().split(",");
+        String[] names = orderExportRow.itemNames().split(", ", -1);
+        for (int i = 0; i < ids.length; i++) {
+            Long itemId = Long.valueOf(ids[i]);
+            String fallbackName = names.length == ids.length ? names[i] : null;
+            items.add(new ItemResponseDTO(itemId, itemCatalog.findById(itemId)
+                    .map(ItemCatalog.Entry::name)
+                    .orElse(fallbackName)));
+        }
+        return items;
+    }
+
+    // Item names stay on the export row; only the scalar fields and derived values are filled here.
+    OrderResponseDTO toOrderResponseDTO(OrderExportRow orderExportRow) {
+        OrderResponseDTO orderResponseDTO = new OrderResponseDTO();
+        orderResponseDTO.setId(orderExportRow.id());
+        orderResponseDTO.setIdentifier(orderExportRow.identifier());
+        orderResponseDTO.setClientId(orderExportRow.clientId());
+        orderResponseDTO.setClientName(orderExportRow.clientName());
+        orderResponseDTO.setContractStartDate(orderExportRow.contractStartDate());
+        orderResponseDTO.setContractEndDate(orderExportRow.contractEndDate());
+        orderResponseDTO.setInstallmentDay(orderExportRow.installmentDay());
+        orderResponseDTO.setInstallmentCount(orderExportRow.installmentCount());
+        orderResponseDTO.setDiscount(orderExportRow.discount());
+        orderResponseDTO.setEmissionDate(orderExportRow.emissionDate());
+        orderResponseDTO.setPaidInstallmentsCount(orderExportRow.paidInstallmentsCount());
+        applyValues(orderResponseDTO, orderExportRow.value());
+        return orderResponseDTO;
+    }
+
+    // Expects discount, installmentCount and paidInstallmentsCount to be set already.
+    private void applyValues(OrderResponseDTO orderResponseDTO, BigDecimal totalValue) {
+        BigDecimal discountPercent = orderResponseDTO.getDiscount()
+                .divide(BigDecimal.valueOf(100), 2, RoundingMode.HALF_UP);
+        BigDecimal discountedValue = totalValue.subtract(totalValue.multiply(discountPercent));
+        BigDecimal installmentValue = discountedValue
+                .divide(BigDecimal.valueOf(orderResponseDTO.getInstallmentCount()), 2, RoundingMode.HALF_UP);
+        BigDecimal paidValue = installmentValue
+                .multiply(BigDecimal.valueOf(orderResponseDTO.getPaidInstallmentsCount()));
+        BigDecimal remainingValue = discountedValue.subtract(paidValue);
+
+        orderResponseDTO.setValue(totalValue);
+        orderResponseDTO.setDiscountedValue(discountedValue);
+        orderResponseDTO.setPaidValue(paidValue);
+        orderResponseDTO.setRemainingValue(remainingValue);
+    }
 }
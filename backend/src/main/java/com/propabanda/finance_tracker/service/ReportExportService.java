@@ -0,0 +1,104 @@
+package com.propabanda.finance_tracker.service;
+
+import com.propabanda.finance_tracker.dto.DashboardEvolutionDTO;
+import com.propabanda.finance_tracker.dto.DashboardFilterDTO;
+import com.propabanda.finance_tracker.dto.ExportFilterDTO;
+import com.propabanda.finance_tracker.dto.ItemPerformanceDTO;
+import com.propabanda.finance_tracker.dto.OrderFilterDTO;
+import com.propabanda.finance_tracker.dto.response.ClientResponseDTO;
+import com.propabanda.finance_tracker.dto.response.OrderResponseDTO;
+import com.propabanda.finance_tracker.model.ClientStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Isolation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.HashSet;
+import java.util.List;
+import java.util.stream.Stream;
+
+@Service
+public class ReportExportService {
+
+    public interface Progress {
+
+        Progress NONE = new Progress() {
+        };
+
+        default void started(long totalOrders) {
+        }
+
+        default void orderWritten() {
+        }
+    }
+
+    // Everything the report needs except the orders, which are streamed while writing.
+    private record Report(
+            List<ClientResponseDTO> clients,
+            DashboardEvolutionDTO dashboard,
+            List<ItemPerformanceDTO> itemPerformance,
+            OrderFilterDTO orderFilter,
+            ClientStatus status
+    ) {
+        long totalOrders() {
+            return dashboard.getTotalOrders() != null ? dashboard.getTotalOrders() : 0;
+        }
+    }
+
+    private final ClientService clientService;
+    private final OrderService orderService;
+    private final DashboardService dashboardService;
+    private final ExcelExportService excelExportService;
+
+    public ReportExportService(ClientService clientService, OrderService orderService,
+                               DashboardService dashboardService, ExcelExportService excelExportService) {
+        this.clientService = clientService;
+        this.orderService = orderService;
+        this.dashboardService = dashboardService;
+        this.excelExportService = excelExportService;
+    }
+
+    // One repeatable-read snapshot backs every sheet, so the summary, item performance and
+    // order rows always agree even while orders are being edited during the export.
+    @Transactional(readOnly = true, isolation = Isolation.REPEATABLE_READ)
+    public void export(ExportFilterDTO exportFilterDTO, OutputStream out, Progress progress) throws IOException {
+        Report report = prepare(exportFilterDTO);
+        progress.started(report.totalOrders());
+        write(report, out, progress);
+    }
+
+    private Report prepare(ExportFilterDTO exportFilterDTO) {
+        DashboardFilterDTO dashboardFilter = new DashboardFilterDTO();
+        OrderFilterDTO orderFilter = new OrderFilterDTO();
+
+        dashboardFilter.setStartDate(exportFilterDTO.getStartDate());
+        orderFilter.setStartDate(exportFilterDTO.getStartDate());
+        dashboardFilter.setEndDate(exportFilterDTO.getEndDate());
+        orderFilter.setEndDate(exportFilterDTO.getEndDate());
+
+        if (exportFilterDTO.getItemIds() != null && !exportFilterDTO.getItemIds().isEmpty()) {
+            dashboardFilter.setItemIds(new HashSet<>(exportFilterDTO.getItemIds()));
+            orderFilter.setItemIds(exportFilterDTO.getItemIds());
+        }
+
+        return new Report(
+                clientService.findAll(),
+                dashboardService.computeEvolution(dashboardFilter),
+                dashboardService.computePerformance(dashboardFilter).getItemPerformances(),
+                orderFilter,
+                exportFilterDTO.getStatus());
+    }
+
+    private void write(Report report, OutputStream out, Progress progress) throws IOException {
+        try (Stream<OrderResponseDTO> orders = orderService.streamFiltered(report.orderFilter())) {
+            excelExportService.writeFullReport(
+                    out,
+                    report.clients(),
+                    orders.peek(order -> progress.orderWritten()),
+                    report.dashboard(),
+                    report.itemPerformance(),
+                    report.status());
+        }
+    }
+}
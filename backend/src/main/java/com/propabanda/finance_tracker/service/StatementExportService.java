@@ -0,0 +1,116 @@
+package com.propabanda.finance_tracker.service;
+
+import com.propabanda.finance_tracker.dto.ClientOrderFilterDTO;
+import com.propabanda.finance_tracker.dto.ExportFilterDTO;
+import com.propabanda.finance_tracker.dto.response.ClientResponseDTO;
+import com.propabanda.finance_tracker.dto.response.OrderResponseDTO;
+import jakarta.annotation.PreDestroy;
+import jakarta.persistence.EntityManager;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+// Builds one statement workbook per client. Orders are read on the calling thread (one connection),
+// workbooks are rendered in parallel and each is written to the ZIP as soon as it is ready.
+@Service
+public class StatementExportService {
+
+    private record Statement(String entryName, byte[] content) {
+    }
+
+    private final ClientService clientService;
+    private final OrderService orderService;
+    private final ExcelExportService excelExportService;
+    private final EntityManager entityManager;
+    private final ForkJoinPool pool;
+
+    public StatementExportService(ClientService clientService, OrderService orderService,
+                                  ExcelExportService excelExportService, EntityManager entityManager,
+                                  @Value("${export.statements.parallelism:0}") int parallelism) {
+        this.clientService = clientService;
+        this.orderService = orderService;
+        this.excelExportService = excelExportService;
+        this.entityManager = entityManager;
+        this.pool = new ForkJoinPool(parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors());
+    }
+
+    @Transactional(readOnly = true)
+    public void writeStatements(ExportFilterDTO exportFilterDTO, OutputStream out) throws IOException {
+        List<ClientResponseDTO> clients = clientService.findAll().stream()
+                .filter(client -> exportFilterDTO.getStatus() == null || client.getStatus() == exportFilterDTO.getStatus())
+                .toList();
+
+        // Caps rendered-but-unwritten workbooks so memory stays bounded for any number of clients.
+        int maxInFlight = pool.getParallelism() * 2;
+        CompletionService<Statement> completionService = new ExecutorCompletionService<>(pool);
+        ZipOutputStream zip = new ZipOutputStream(out);
+        int inFlight = 0;
+        try {
+            for (ClientResponseDTO client : clients) {
+                List<OrderResponseDTO> orders = orderService
+                        .findByClientFiltered(client.getId(), new ClientOrderFilterDTO())
+                        .getContent();
+                entityManager.clear();
+
+                completionService.submit(() -> render(client, orders));
+                inFlight++;
+
+                while (inFlight >= maxInFlight) {
+                    writeEntry(zip, completionService.take());
+                    inFlight--;
+                }
+                Future<Statement> done;
+                while ((done = completionService.poll()) != null) {
+                    writeEntry(zip, done);
+                    inFlight--;
+                }
+            }
+            while (inFlight > 0) {
+                writeEntry(zip, completionService.take());
+                inFlight--;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Statement export interrupted", e);
+        }
+        zip.finish();
+        zip.flush();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        pool.shutdownNow();
+    }
+
+    private Statement render(ClientResponseDTO client, List<OrderResponseDTO> orders) throws IOException {
+        try (ByteArrayOutputStream buffer = new ByteArrayOutputStream()) {
+            excelExportService.writeClientStatement(buffer, client, orders);
+            String safeName = client.getName().replaceAll("[\\\\/:*?\"<>|]", "_");
+            return new Statement(client.getId() + " - " + safeName + ".xlsx", buffer.toByteArray());
+        }
+    }
+
+    private void writeEntry(ZipOutputStream zip, Future<Statement> future) throws IOException, InterruptedException {
+        Statement statement;
+        try {
+            statement = future.get();
+        } catch (ExecutionException e) {
+            throw new IOException("Failed to build client statement", e.getCause());
+        }
+        zip.putNextEntry(new ZipEntry(statement.entryName()));
+        zip.write(statement.content());
+        zip.closeEntry();
+    }
+}
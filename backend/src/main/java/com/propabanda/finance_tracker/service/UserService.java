@@ -1,5 +1,6 @@
 package com.propabanda.finance_tracker.service;
 
+import com.propabanda.finance_tracker.Security.JWTUtil;
 import com.propabanda.finance_tracker.dto.request.ChangePasswordRequestDTO;
 import com.propabanda.finance_tracker.dto.request.UserRequestDTO;
 import com.propabanda.finance_tracker.dto.response.UserResponseDTO;
@@ -16,10 +17,12 @@ public class UserService {
 
     private final UserRepository userRepository;
     private final BCryptPasswordEncoder passwordEncoder;
+    private final JWTUtil jwtUtil;
 
-    public UserService(UserRepository userRepository, BCryptPasswordEncoder passwordEncoder) {
+    public UserService(UserRepository userRepository, BCryptPasswordEncoder passwordEncoder, JWTUtil jwtUtil) {
         this.userRepository = userRepository;
         this.passwordEncoder = passwordEncoder;
+        this.jwtUtil = jwtUtil;
     }
 
     public List<UserResponseDTO> findAll() {
@@ -56,6 +59,7 @@ public class UserService {
 
     public void delete(Long id) {
         userRepository.deleteById(id);
+        jwtUtil.evictUser(id);
     }
 
     private User toUserModel(UserRequestDTO userRequestDTO) {
@@ -0,0 +1,37 @@
+package com.propabanda.finance_tracker.util;
+
+import java.nio.charset.StandardCharsets;
+import java.time.DateTimeException;
+import java.util.Base64;
+import java.util.function.Function;
+
+public final class CursorCodec {
+
+    private CursorCodec() {
+    }
+
+    public record Cursor(String sortKey, Long id, String value) {
+    }
+
+    public static String encode(String sortKey, Long id, String value) {
+        String raw = sortKey + ":" + id + ":" + value;
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    // Checks the last value with valueParser as well, so a tampered cursor fails here with
+    // IllegalArgumentException instead of inside the query.
+    public static Cursor decode(String cursor, String expectedSortKey, Function<String, ?> valueParser) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = raw.split(":", 3);
+            if (parts.length != 3 || !parts[0].equals(expectedSortKey)) {
+                throw new IllegalArgumentException("Invalid cursor");
+            }
+            valueParser.apply(parts[2]);
+            return new Cursor(parts[0], Long.parseLong(parts[1]), parts[2]);
+        } catch (IllegalArgumentException | DateTimeException e) {
+            throw new IllegalArgumentException("Invalid cursor", e);
+        }
+    }
+}
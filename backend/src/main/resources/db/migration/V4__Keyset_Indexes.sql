@@ -0,0 +1,4 @@
+CREATE INDEX idx_app_order_emission_date_id ON app_order (emission_date, id);
+
+CREATE INDEX idx_client_lower_name_id ON client (lower(name), id);
+CREATE INDEX idx_client_created_at_id ON client (created_at, id);
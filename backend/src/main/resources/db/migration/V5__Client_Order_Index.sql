@@ -0,0 +1 @@
+CREATE INDEX idx_app_order_client_id_emission_date ON app_order (client_id, emission_date);
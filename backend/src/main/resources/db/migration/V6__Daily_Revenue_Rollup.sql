@@ -0,0 +1,30 @@
+CREATE TABLE daily_revenue (
+  revenue_date DATE PRIMARY KEY,
+  revenue NUMERIC(18,4) NOT NULL,
+  order_count INTEGER NOT NULL
+);
+
+CREATE TABLE daily_item_revenue (
+  revenue_date DATE NOT NULL,
+  item_id INTEGER NOT NULL REFERENCES item(id) ON DELETE CASCADE,
+  revenue NUMERIC(18,4) NOT NULL,
+  order_count INTEGER NOT NULL,
+  PRIMARY KEY (revenue_date, item_id)
+);
+
+INSERT INTO daily_revenue (revenue_date, revenue, order_count)
+SELECT o.emission_date, SUM(o.value - o.value * ROUND(o.discount / 100, 2)), COUNT(*)
+FROM app_order o
+GROUP BY o.emission_date;
+
+INSERT INTO daily_item_revenue (revenue_date, item_id, revenue, order_count)
+SELECT po.emission_date, l.item_id, SUM(ROUND(po.discounted_value / po.item_count, 2)), COUNT(*)
+FROM (
+  SELECT o.id,
+         o.emission_date,
+         o.value - o.value * ROUND(o.discount / 100, 2) AS discounted_value,
+         (SELECT COUNT(*) FROM order_item_link c WHERE c.order_id = o.id) AS item_count
+  FROM app_order o
+) po
+JOIN order_item_link l ON l.order_id = po.id
+GROUP BY po.emission_date, l.item_id;
@@ -0,0 +1,45 @@
+-- Hibernate's pooled-lo optimizer reserves [nextval, nextval + 49] per call, so every id
+-- sequence steps by 50 and starts above the current maximum. Column defaults move to the
+-- same sequences so plain SQL inserts draw from them too, and the old SERIAL sequences go.
+
+CREATE SEQUENCE representative_seq INCREMENT BY 50;
+CREATE SEQUENCE address_seq INCREMENT BY 50;
+CREATE SEQUENCE client_seq INCREMENT BY 50;
+CREATE SEQUENCE item_seq INCREMENT BY 50;
+CREATE SEQUENCE app_user_seq INCREMENT BY 50;
+ALTER SEQUENCE app_order_id_seq INCREMENT BY 50;
+
+SELECT setval('representative_seq', COALESCE((SELECT MAX(id) FROM representative), 0) + 1, false);
+SELECT setval('address_seq', COALESCE((SELECT MAX(id) FROM address), 0) + 1, false);
+SELECT setval('client_seq', COALESCE((SELECT MAX(id) FROM client), 0) + 1, false);
+SELECT setval('item_seq', COALESCE((SELECT MAX(id) FROM item), 0) + 1, false);
+SELECT setval('app_user_seq', COALESCE((SELECT MAX(id) FROM app_user), 0) + 1, false);
+SELECT setval('app_order_id_seq',
+              GREATEST(COALESCE((SELECT MAX(id) FROM app_order), 0),
+                       (SELECT last_value FROM app_order_id_seq)) + 1, false);
+
+DO $$
+DECLARE
+    target RECORD;
+    serial_sequence TEXT;
+BEGIN
+    FOR target IN
+        SELECT * FROM (VALUES
+            ('representative', 'representative_seq'),
+            ('address', 'address_seq'),
+            ('client', 'client_seq'),
+            ('item', 'item_seq'),
+            ('app_user', 'app_user_seq'),
+            ('app_order', 'app_order_id_seq')
+        ) AS t(table_name, sequence_name)
+    LOOP
+        serial_sequence := pg_get_serial_sequence(target.table_name, 'id');
+        EXECUTE format('ALTER TABLE %I ALTER COLUMN id SET DEFAULT nextval(%L)',
+                       target.table_name, target.sequence_name);
+        IF serial_sequence IS NOT NULL
+                AND serial_sequence::regclass <> target.sequence_name::regclass THEN
+            EXECUTE format('DROP SEQUENCE %s', serial_sequence);
+        END IF;
+        EXECUTE format('ALTER SEQUENCE %I OWNED BY %I.id', target.sequence_name, target.table_name);
+    END LOOP;
+END $$;
@@ -0,0 +1,147 @@
+package com.propabanda.finance_tracker.service;
+
+import com.propabanda.finance_tracker.dto.request.OrderRequestDTO;
+import com.propabanda.finance_tracker.dto.response.ImportRejectionDTO;
+import com.propabanda.finance_tracker.dto.response.ImportReportDTO;
+import com.propabanda.finance_tracker.model.Item;
+import com.propabanda.finance_tracker.repository.ClientRepository;
+import com.propabanda.finance_tracker.repository.ItemRepository;
+import com.propabanda.finance_tracker.repository.OrderRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.*;
+
+import static com.propabanda.finance_tracker.service.ClientFixtures.clientRequest;
+import static com.propabanda.finance_tracker.service.ClientFixtures.documentNumber;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+@SpringBootTest
+@Transactional
+class BulkImportServiceTests {
+
+    private static final String CLIENT_HEADER = "Nome,Documento,Representante,E-mail,Telefone,CEP,UF,Cidade,Bairro,Rua,Número,Complemento,Referência,Status\n";
+    private static final String ORDER_HEADER = "Documento,Emissão,Início,Fim,Dia,Parcelas,Desconto,Pagas,Contrato,Valor,Itens\n";
+
+    @Autowired
+    private CsvImportService csvImportService;
+
+    @Autowired
+    private ClientService clientService;
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private ItemCatalog itemCatalog;
+
+    @Autowired
+    private ClientRepository clientRepository;
+
+    @Autowired
+    private ItemRepository itemRepository;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void importsCsvAlongsideJpaWrites() {
+        Random random = new Random();
+        String existingDocument = documentNumber(random);
+        String documentA = documentNumber(random);
+        String documentB = documentNumber(random);
+        String catalogItem = itemCatalog.findAll().get(0).name();
+        String newItem = "Importado " + UUID.randomUUID().toString().substring(0, 8);
+
+        // Saved and flushed first, so Hibernate already holds a pooled-lo block of ids when the import runs.
+        Long existingClientId = clientService.save(clientRequest("Cliente Existente", existingDocument)).getId();
+        clientRepository.flush();
+
+        String clients = CLIENT_HEADER
+                + "Cliente A," + documentA + ",Rep A,a@example.com,11999990000,01310-100,SP,São Paulo,Bela Vista,Av. Paulista,1.000,,,ATIVO\n"
+                + "Outro Nome," + existingDocument + ",Rep X,x@example.com,11999990000,01001000,SP,São Paulo,Sé,Praça da Sé,1,,,ATIVO\n"
+                + "Cliente Inválido," + documentNumber(random) + ",Rep C,c@example.com,11999990000,01001000,sp,São Paulo,Sé,Praça da Sé,1,,,ATIVO\n"
+                + "\"Cliente B, Ltda\"," + documentB + ",Rep B,b@example.com,1133330000,01001000,RJ,Rio de Janeiro,Centro,Rua 1,20,Sala 2,,INATIVO\n";
+        String orders = ORDER_HEADER
+                + documentA + ",15/03/2024,15/03/2024,15/03/2025,10,12,5.5,2,contrato-a.pdf,1200.00," + catalogItem + "," + newItem + "\n"
+                + documentB + ",1/2/2024,1/2/2024,1/2/2025,5,6,0,0,contrato-b.pdf,600.00," + catalogItem + "\n"
+                + documentNumber(random) + ",1/2/2024,1/2/2024,1/2/2025,5,6,0,0,contrato-c.pdf,600.00," + catalogItem + "\n"
+                + existingDocument + ",20/4/2024,20/4/2024,20/4/2025,20,3,10,1,contrato-d.pdf,300.00," + newItem + "\n";
+
+        ImportReportDTO report = csvImportService.importFromCsv(csv("clientes.csv", clients), csv("pedidos.csv", orders));
+
+        assertThat(report.getImportedClients()).isEqualTo(2);
+        assertThat(report.getImportedOrders()).isEqualTo(3);
+        assertThat(report.getRejectedRows()).isEqualTo(2L);
+        assertThat(report.getRejections())
+                .extracting(ImportRejectionDTO::getSheet, ImportRejectionDTO::getLine)
+                .containsExactlyInAnyOrder(
+                        tuple(BulkImportService.CLIENT_SHEET, 4),
+                        tuple(BulkImportService.ORDER_SHEET, 4));
+
+        // A known document is skipped, not overwritten.
+        assertThat(clientRepository.findById(existingClientId).orElseThrow().getName()).isEqualTo("Cliente Existente");
+        assertThat(jdbcTemplate.queryForObject("""
+                select a.zip_code || '/' || a.number
+                from client c join address a on a.id = c.address_id
+                where c.document_number = ?
+                """, String.class, documentA)).isEqualTo("01310100/1000");
+        assertThat(itemRepository.findByNameIgnoreCase(newItem)).isPresent();
+
+        List<Long> importedClientIds = jdbcTemplate.queryForList(
+                "select id from client where document_number in (?, ?)", Long.class, documentA, documentB);
+        List<Long> importedOrderIds = new ArrayList<>();
+        jdbcTemplate.query("""
+                select o.id, o.identifier, o.emission_date
+                from app_order o join client c on c.id = o.client_id
+                where c.document_number in (?, ?, ?)
+                """, resultSet -> {
+            long id = resultSet.getLong(1);
+            LocalDate emissionDate = resultSet.getObject(3, LocalDate.class);
+            importedOrderIds.add(id);
+            // Same formula as Order#generateIdentifier.
+            assertThat(resultSet.getString(2)).isEqualTo(
+                    emissionDate.format(DateTimeFormatter.ofPattern("ddMMyy")) + String.format("%04d", id % 10_000));
+        }, documentA, documentB, existingDocument);
+        assertThat(importedOrderIds).hasSize(3);
+
+        // Hibernate keeps drawing from its block; a reused id would fail the flush with a duplicate key.
+        Long jpaClientId = clientService.save(clientRequest("Cliente Depois", documentNumber(random))).getId();
+        Item item = new Item();
+        item.setName("Depois " + UUID.randomUUID().toString().substring(0, 8));
+        Long jpaItemId = itemRepository.save(item).getId();
+        OrderRequestDTO orderRequestDTO = new OrderRequestDTO();
+        orderRequestDTO.setClientId(importedClientIds.get(0));
+        orderRequestDTO.setItems(Set.of(itemCatalog.findAll().get(0).id()));
+        orderRequestDTO.setValue(new BigDecimal("100.00"));
+        orderRequestDTO.setDiscount(BigDecimal.ZERO);
+        orderRequestDTO.setInstallmentCount(1);
+        orderRequestDTO.setPaidInstallmentsCount(0);
+        orderRequestDTO.setInstallmentDay(1);
+        orderRequestDTO.setEmissionDate(LocalDate.of(2024, 5, 1));
+        orderRequestDTO.setContractStartDate(orderRequestDTO.getEmissionDate());
+        orderRequestDTO.setContractEndDate(orderRequestDTO.getEmissionDate().plusMonths(1));
+        Long jpaOrderId = orderService.save(orderRequestDTO).getId();
+        orderRepository.flush();
+
+        assertThat(importedClientIds).doesNotContain(jpaClientId, existingClientId);
+        assertThat(importedOrderIds).doesNotContain(jpaOrderId);
+        assertThat(itemRepository.findByNameIgnoreCase(newItem).orElseThrow().getId()).isNotEqualTo(jpaItemId);
+    }
+
+    private static MockMultipartFile csv(String name, String content) {
+        return new MockMultipartFile(name, name, "text/csv", content.getBytes(StandardCharsets.UTF_8));
+    }
+}
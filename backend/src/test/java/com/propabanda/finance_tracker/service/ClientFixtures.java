@@ -0,0 +1,43 @@
+package com.propabanda.finance_tracker.service;
+
+import com.propabanda.finance_tracker.dto.request.AddressRequestDTO;
+import com.propabanda.finance_tracker.dto.request.ClientRequestDTO;
+import com.propabanda.finance_tracker.dto.request.RepresentativeRequestDTO;
+import com.propabanda.finance_tracker.model.ClientStatus;
+
+import java.util.Random;
+
+// Valid client requests for tests that need clients to hang orders on.
+final class ClientFixtures {
+
+    private ClientFixtures() {
+    }
+
+    // 14 digits, like a CNPJ; random so tests do not collide with rows already in the database.
+    static String documentNumber(Random random) {
+        return String.format("%014d", Math.abs(random.nextLong() % 100_000_000_000_000L));
+    }
+
+    static ClientRequestDTO clientRequest(String name, String documentNumber) {
+        RepresentativeRequestDTO representativeRequestDTO = new RepresentativeRequestDTO();
+        representativeRequestDTO.setName("Representante " + name);
+        representativeRequestDTO.setEmail("representante@example.com");
+        representativeRequestDTO.setPhone("11999990000");
+
+        AddressRequestDTO addressRequestDTO = new AddressRequestDTO();
+        addressRequestDTO.setZipCode("01001000");
+        addressRequestDTO.setState("SP");
+        addressRequestDTO.setCity("São Paulo");
+        addressRequestDTO.setNeighbourhood("Sé");
+        addressRequestDTO.setStreet("Praça da Sé");
+        addressRequestDTO.setNumber("1");
+
+        ClientRequestDTO clientRequestDTO = new ClientRequestDTO();
+        clientRequestDTO.setName(name);
+        clientRequestDTO.setDocumentNumber(documentNumber);
+        clientRequestDTO.setRepresentativeRequestDTO(representativeRequestDTO);
+        clientRequestDTO.setAddressRequestDTO(addressRequestDTO);
+        clientRequestDTO.setStatus(ClientStatus.ATIVO);
+        return clientRequestDTO;
+    }
+}
@@ -0,0 +1,54 @@
+package com.propabanda.finance_tracker.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CsvImportServiceTests {
+
+    private record Row(int line, List<String> values) {
+    }
+
+    @Test
+    void skipsHeaderAndByteOrderMark() throws IOException {
+        List<Row> rows = read("\uFEFFnome,documento\nAcme,123\n");
+
+        assertThat(rows).containsExactly(new Row(2, List.of("Acme", "123")));
+    }
+
+    @Test
+    void unquotesFieldsWithSeparatorsAndEscapedQuotes() throws IOException {
+        List<Row> rows = read("a,b,c\n\"Rua 1, casa\",\"diz \"\"oi\"\"\",\"\"\n");
+
+        assertThat(rows).containsExactly(new Row(2, List.of("Rua 1, casa", "diz \"oi\"", "")));
+    }
+
+    @Test
+    void keepsLineBreaksInsideQuotedFieldsAndCountsRecords() throws IOException {
+        List<Row> rows = read("a,b\n\"linha 1\r\nlinha 2\",x\ny,z\n");
+
+        assertThat(rows).containsExactly(
+                new Row(2, List.of("linha 1\r\nlinha 2", "x")),
+                new Row(3, List.of("y", "z")));
+    }
+
+    @Test
+    void acceptsCrLfBlankLinesAndMissingFinalNewline() throws IOException {
+        List<Row> rows = read("a,b\r\n1,2\r\n\r\n , \r\n3,4");
+
+        assertThat(rows).containsExactly(
+                new Row(2, List.of("1", "2")),
+                new Row(5, List.of("3", "4")));
+    }
+
+    private static List<Row> read(String csv) throws IOException {
+        List<Row> rows = new ArrayList<>();
+        CsvImportService.readCsv(new StringReader(csv), (line, values) -> rows.add(new Row(line, List.copyOf(values))));
+        return rows;
+    }
+}
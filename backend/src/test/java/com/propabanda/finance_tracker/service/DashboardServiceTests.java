@@ -0,0 +1,169 @@
+package com.propabanda.finance_tracker.service;
+
+import com.propabanda.finance_tracker.dto.DashboardFilterDTO;
+import com.propabanda.finance_tracker.dto.ItemPerformanceDTO;
+import com.propabanda.finance_tracker.dto.request.OrderRequestDTO;
+import com.propabanda.finance_tracker.dto.response.OrderResponseDTO;
+import com.propabanda.finance_tracker.model.Item;
+import com.propabanda.finance_tracker.repository.ItemRepository;
+import com.propabanda.finance_tracker.repository.OrderRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.util.*;
+
+import static com.propabanda.finance_tracker.service.ClientFixtures.clientRequest;
+import static com.propabanda.finance_tracker.service.ClientFixtures.documentNumber;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@Transactional
+class DashboardServiceTests {
+
+    private static final LocalDate FIRST_DAY = LocalDate.of(2023, 1, 1);
+
+    @Autowired
+    private DashboardService dashboardService;
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private ClientService clientService;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private ItemRepository itemRepository;
+
+    @Test
+    void performanceMatchesInMemoryAlgorithm() {
+        List<Item> items = generateDataset();
+
+        DashboardFilterDTO filter = new DashboardFilterDTO();
+        filter.setStartDate(FIRST_DAY.plusDays(90));
+        filter.setEndDate(FIRST_DAY.plusDays(600));
+        filter.setItemIds(new HashSet<>(items.stream().map(Item::getId).toList()));
+
+        assertMatchesInMemoryAlgorithm(filter);
+    }
+
+    // Orders matching the filter also carry unselected items; each share must still divide by all of them.
+    @Test
+    void performanceForItemSubsetMatchesInMemoryAlgorithm() {
+        List<Item> items = generateDataset();
+
+        DashboardFilterDTO filter = new DashboardFilterDTO();
+        filter.setStartDate(FIRST_DAY.plusDays(90));
+        filter.setEndDate(FIRST_DAY.plusDays(600));
+        filter.setItemIds(Set.of(items.get(0).getId(), items.get(1).getId()));
+
+        assertThat(inMemoryPerformance(filter).keySet())
+                .containsAnyOf(items.subList(2, items.size()).stream().map(Item::getId).toArray(Long[]::new));
+        assertMatchesInMemoryAlgorithm(filter);
+    }
+
+    @Test
+    void rollupPerformanceMatchesInMemoryAlgorithm() {
+        generateDataset();
+
+        DashboardFilterDTO filter = new DashboardFilterDTO();
+        filter.setStartDate(FIRST_DAY.plusDays(90));
+        filter.setEndDate(FIRST_DAY.plusDays(600));
+
+        assertMatchesInMemoryAlgorithm(filter);
+    }
+
+    private void assertMatchesInMemoryAlgorithm(DashboardFilterDTO filter) {
+        Map<Long, ItemPerformanceDTO> expected = inMemoryPerformance(filter);
+        Map<Long, ItemPerformanceDTO> actual = new HashMap<>();
+        dashboardService.getPerformance(filter).getItemPerformances()
+                .forEach(perf -> actual.put(perf.getItemId(), perf));
+
+        assertThat(actual.keySet()).isEqualTo(expected.keySet());
+        expected.forEach((itemId, perf) -> {
+            assertThat(actual.get(itemId).getTotalRevenue()).isEqualByComparingTo(perf.getTotalRevenue());
+            assertThat(actual.get(itemId).getPercentageOfTotal()).isEqualByComparingTo(perf.getPercentageOfTotal());
+        });
+    }
+
+    private List<Item> generateDataset() {
+        Random random = new Random(42);
+
+        List<Item> items = new ArrayList<>();
+        for (int i = 0; i < 6; i++) {
+            Item item = new Item();
+            item.setName("Regressão " + i + " " + UUID.randomUUID().toString().substring(0, 8));
+            items.add(itemRepository.save(item));
+        }
+
+        List<Long> clientIds = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            clientIds.add(clientService.save(clientRequest("Cliente Regressão " + i, documentNumber(random))).getId());
+        }
+
+        for (int i = 0; i < 300; i++) {
+            Set<Long> itemIds = new HashSet<>();
+            int itemCount = 1 + random.nextInt(3);
+            while (itemIds.size() < itemCount) {
+                itemIds.add(items.get(random.nextInt(items.size())).getId());
+            }
+
+            int installmentCount = 1 + random.nextInt(12);
+            OrderRequestDTO orderRequestDTO = new OrderRequestDTO();
+            orderRequestDTO.setClientId(clientIds.get(random.nextInt(clientIds.size())));
+            orderRequestDTO.setItems(itemIds);
+            orderRequestDTO.setValue(BigDecimal.valueOf(10_000 + random.nextInt(1_000_000), 2));
+            orderRequestDTO.setDiscount(BigDecimal.valueOf(random.nextInt(3_001), 2));
+            orderRequestDTO.setInstallmentCount(installmentCount);
+            orderRequestDTO.setPaidInstallmentsCount(random.nextInt(installmentCount + 1));
+            orderRequestDTO.setInstallmentDay(1 + random.nextInt(28));
+            orderRequestDTO.setEmissionDate(FIRST_DAY.plusDays(random.nextInt(730)));
+            orderRequestDTO.setContractStartDate(orderRequestDTO.getEmissionDate());
+            orderRequestDTO.setContractEndDate(orderRequestDTO.getEmissionDate().plusMonths(installmentCount));
+            orderService.save(orderRequestDTO);
+        }
+        orderRepository.flush();
+        return items;
+    }
+
+    // The algorithm getPerformance used before it moved into SQL.
+    private Map<Long, ItemPerformanceDTO> inMemoryPerformance(DashboardFilterDTO filter) {
+        List<OrderResponseDTO> period = orderRepository.findAll().stream()
+                .filter(order -> filter.getItemIds() == null || order.getItems().stream()
+                        .anyMatch(item -> filter.getItemIds().contains(item.getId())))
+                .filter(order -> !order.getEmissionDate().isBefore(filter.getStartDate())
+                        && !order.getEmissionDate().isAfter(filter.getEndDate()))
+                .map(orderService::toOrderResponseDTO)
+                .toList();
+
+        Map<Long, ItemPerformanceDTO> map = new HashMap<>();
+        for (OrderResponseDTO orderResponseDTO : period) {
+            if (orderResponseDTO.getItems().isEmpty()) continue;
+
+            BigDecimal share = orderResponseDTO.getDiscountedValue()
+                    .divide(BigDecimal.valueOf(orderResponseDTO.getItems().size()), 2, RoundingMode.HALF_UP);
+
+            orderResponseDTO.getItems().forEach(itemResponseDTO -> {
+                ItemPerformanceDTO perf = map.computeIfAbsent(itemResponseDTO.getId(), id -> new ItemPerformanceDTO());
+                perf.setItemId(itemResponseDTO.getId());
+                BigDecimal cur = perf.getTotalRevenue() != null ? perf.getTotalRevenue() : BigDecimal.ZERO;
+                perf.setTotalRevenue(cur.add(share));
+            });
+        }
+
+        BigDecimal total = map.values().stream()
+                .map(ItemPerformanceDTO::getTotalRevenue)
+                .reduce(BigDecimal.ZERO, BigDecimal::add);
+        map.values().forEach(perf -> perf.setPercentageOfTotal(total.compareTo(BigDecimal.ZERO) > 0
+                ? perf.getTotalRevenue().multiply(BigDecimal.valueOf(100)).divide(total, 2, RoundingMode.HALF_UP)
+                : BigDecimal.ZERO));
+        return map;
+    }
+}
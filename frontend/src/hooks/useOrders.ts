@@ -26,11 +26,11 @@ export default function useOrders(
     if (timer.current) clearTimeout(timer.current);
     timer.current = setTimeout(async () => {
       setLoading(true);
-      const { data } = await api.post<OrderDTO[]>(
+      const { data } = await api.post<{ content: OrderDTO[] }>(
         `/api/orders/client/${clientId}/filter`,
         { search: debounced, sortBy, direction }
       );
-      setOrders(data);
+      setOrders(data.content);
       setLoading(false);
     }, 0);
     return () => {
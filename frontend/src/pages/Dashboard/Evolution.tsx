@@ -58,6 +58,18 @@ type OrderResume = {
   clientName: string;
 };
 
+type ImportReport = {
+  importedClients: number;
+  importedOrders: number;
+  rejectedRows: number;
+};
+
+type ExportJob = {
+  id: string;
+  status: "PENDING" | "RUNNING" | "DONE" | "FAILED";
+  error?: string;
+};
+
 const iso = (d: Date) => d.toISOString().slice(0, 10);
 const firstDayYear = () => iso(new Date(new Date().getFullYear(), 0, 1));
 
@@ -106,12 +118,12 @@ export default function Dashboard() {
         endDate: period.end,
         itemIds: selectedItems,
       };
-      const { data } = await api.post<OrderResume[]>(
+      const { data } = await api.post<{ content: OrderResume[] }>(
         "/api/orders/filter",
         body
       );
       setOrders(
-        data.map((o) => ({
+        data.content.map((o) => ({
           id: o.id,
           identifier: o.identifier,
           emissionDate: o.emissionDate,
@@ -178,10 +190,20 @@ export default function Dashboard() {
         params.append("status", exportStatus);
       }
 
-      const response = await api.get(
-        `/api/export/report.xlsx?${params.toString()}`,
-        { responseType: "blob" }
+      let { data: job } = await api.post<ExportJob>(
+        `/api/export/jobs?${params.toString()}`
       );
+      while (job.status === "PENDING" || job.status === "RUNNING") {
+        await new Promise((resolve) => setTimeout(resolve, 1000));
+        ({ data: job } = await api.get<ExportJob>(`/api/export/jobs/${job.id}`));
+      }
+      if (job.status === "FAILED") {
+        throw new Error(job.error ?? "Erro ao gerar arquivo.");
+      }
+
+      const response = await api.get(`/api/export/jobs/${job.id}/file`, {
+        responseType: "blob",
+      });
       const url = window.URL.createObjectURL(response.data);
       const a = document.createElement("a");
       a.href = url;
@@ -339,10 +361,16 @@ export default function Dashboard() {
                   try {
                     const form = new FormData();
                     form.append("file", importFile);
-                    await api.post("/api/import", form, {
-                      headers: { "Content-Type": "multipart/form-data" },
-                    });
-                    setAlertMsg("Importação concluída com sucesso.");
+                    const { data } = await api.post<ImportReport>(
+                      "/api/import",
+                      form,
+                      { headers: { "Content-Type": "multipart/form-data" } }
+                    );
+                    setAlertMsg(
+                      data.rejectedRows > 0
+                        ? `Importação concluída: ${data.importedOrders} pedidos importados, ${data.rejectedRows} linhas rejeitadas.`
+                        : "Importação concluída com sucesso."
+                    );
                     fetchOrders();
                   } catch {
                     setErr("Falha ao importar o arquivo.");
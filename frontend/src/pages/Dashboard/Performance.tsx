@@ -36,6 +36,12 @@ type PerformanceDTO = {
   itemPerformances: ItemPerf[];
 };
 
+type ImportReport = {
+  importedClients: number;
+  importedOrders: number;
+  rejectedRows: number;
+};
+
 type ItemOption = { id: number; name: string };
 
 const iso = (d: Date) => d.toISOString().slice(0, 10);
@@ -291,10 +297,16 @@ export default function DashboardPerformance() {
                   try {
                     const form = new FormData();
                     form.append("file", importFile);
-                    await api.post("/api/import", form, {
-                      headers: { "Content-Type": "multipart/form-data" },
-                    });
-                    setAlertMsg("Importação concluída com sucesso.");
+                    const { data } = await api.post<ImportReport>(
+                      "/api/import",
+                      form,
+                      { headers: { "Content-Type": "multipart/form-data" } }
+                    );
+                    setAlertMsg(
+                      data.rejectedRows > 0
+                        ? `Importação concluída: ${data.importedOrders} pedidos importados, ${data.rejectedRows} linhas rejeitadas.`
+                        : "Importação concluída com sucesso."
+                    );
                     fetchPerf();
                   } catch {
                     setErr("Falha interna ao importar o arquivo.");
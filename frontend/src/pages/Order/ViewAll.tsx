@@ -36,9 +36,12 @@ export default function Orders() {
 
   const fetchOrders = async () => {
     const payload = { sortBy, direction, ...(search.trim() && { search }) };
-    const { data } = await api.post<OrderDTO[]>("/api/orders/filter", payload);
+    const { data } = await api.post<{ content: OrderDTO[] }>(
+      "/api/orders/filter",
+      payload
+    );
     setOrders(
-      data.map((o) => ({
+      data.content.map((o) => ({
         id: o.id,
         identifier: o.identifier,
         clientName: o.clientName,